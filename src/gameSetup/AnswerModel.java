@@ -0,0 +1,116 @@
+package gameSetup;
+
+
+import trivia.Question;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+
+/*
+ * AnswerModel stands in for a player answering trivia in simulated matches: the chance of a correct answer
+ * per category at each difficulty, and the difficulty the player picks in a duel.
+ * The accuracy is given for easy questions, medium and hard ones scale it by DIFFICULTY_FACTORS;
+ * the duel difficulty is the one with the best expected points (difficulty x 100 x accuracy).
+ * spec: "0.7" for every category, or "SCIENCE=0.9,SPORT=0.4,*=0.6" per category with * for the rest
+ */
+
+
+public class AnswerModel
+{
+    private static final double[] DIFFICULTY_FACTORS = {1.0, 0.75, 0.45};
+    private static final Question.Category[] CATEGORIES = Question.Category.values();
+
+    // [category][difficulty - 1]
+    private final double[][] _accuracy = new double[CATEGORIES.length][DIFFICULTY_FACTORS.length];
+    private final int[] _duelDifficulty = new int[CATEGORIES.length];
+    private final String _spec;
+
+
+    // ctor, easy question accuracy by category ordinal, each in [0, 1]
+    public AnswerModel(double[] easyAccuracy, String spec)
+    {
+        _spec = spec;
+        for (int category = 0; category < CATEGORIES.length; category++)
+        {
+            double bestPoints = -1;
+            for (int level = 0; level < DIFFICULTY_FACTORS.length; level++)
+            {
+                _accuracy[category][level] = easyAccuracy[category] * DIFFICULTY_FACTORS[level];
+
+                double expectedPoints = (level + 1) * _accuracy[category][level];
+                if (expectedPoints > bestPoints)
+                {
+                    bestPoints = expectedPoints;
+                    _duelDifficulty[category] = level + 1;
+                }
+            }
+        }
+    }
+
+
+    // same accuracy in every category
+    public static AnswerModel uniform(double easyAccuracy)
+    {
+        double[] accuracy = new double[CATEGORIES.length];
+        Arrays.fill(accuracy, easyAccuracy);
+        return new AnswerModel(checked(accuracy, String.valueOf(easyAccuracy)), String.valueOf(easyAccuracy));
+    }
+
+
+    // reads a spec, see the class comment
+    public static AnswerModel parse(String spec)
+    {
+        if (!spec.contains("=")) {return uniform(Double.parseDouble(spec.trim()));}
+
+        double[] accuracy = new double[CATEGORIES.length];
+        Arrays.fill(accuracy, Double.NaN);
+        double fallback = Double.NaN;
+
+        for (String part : spec.split(","))
+        {
+            String[] keyValue = part.split("=");
+            if (keyValue.length != 2) {throw new IllegalArgumentException("Expected CATEGORY=ACCURACY, got: " + part);}
+
+            String key = keyValue[0].trim();
+            double value = Double.parseDouble(keyValue[1].trim());
+            if (key.equals("*")) {fallback = value;}
+            else {accuracy[Question.Category.valueOf(key).ordinal()] = value;}
+        }
+
+        for (int category = 0; category < accuracy.length; category++)
+        {
+            if (Double.isNaN(accuracy[category]))
+            {
+                if (Double.isNaN(fallback)) {throw new IllegalArgumentException("No accuracy for " + CATEGORIES[category] + " in: " + spec);}
+                accuracy[category] = fallback;
+            }
+        }
+        return new AnswerModel(checked(accuracy, spec), spec);
+    }
+
+
+    // the easy accuracies as given, before any scaling, so 1.5 is an error and not a sure answer
+    private static double[] checked(double[] easyAccuracy, String spec)
+    {
+        for (double accuracy : easyAccuracy)
+        {
+            if (!(accuracy >= 0 && accuracy <= 1)) {throw new IllegalArgumentException("Accuracy out of [0, 1] in: " + spec);}
+        }
+        return easyAccuracy;
+    }
+
+
+    // draws whether the answer to a question of this category and difficulty (1 to 3) is correct
+    public boolean answers(Question.Category category, int difficulty, RandomGenerator random)
+    {
+        return random.nextDouble() < _accuracy[category.ordinal()][difficulty - 1];
+    }
+
+
+    public double getAccuracy(Question.Category category, int difficulty) {return _accuracy[category.ordinal()][difficulty - 1];}
+    public int getDuelDifficulty(Question.Category category) {return _duelDifficulty[category.ordinal()];}
+
+    @Override
+    public String toString() {return _spec;}
+}
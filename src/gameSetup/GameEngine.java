@@ -0,0 +1,614 @@
+package gameSetup;
+
+
+import map.OwnershipIndex;
+import map.Territory;
+import map.WorldMapData;
+
+import trivia.Question;
+import troops.TroopType;
+import troops.TroopVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+
+/*
+ * GameEngine holds the rules of a match: turns, reinforcements, moves, battles, continents, eliminations and victory.
+ * It only works on Territory, Player and WorldMapData, without Swing or AWT, so a match can run without a display.
+ * Who owns what is read from the OwnershipIndex of the WorldMapData, which Territory.setOwner keeps up to date.
+ * The state changes are reported to a GameEventListener, GameManager turns them into map repaints and panels.
+ * All the randomness comes from the generator given to the constructor, a seeded one replays the same match.
+ * An engine keeps no shared state, engines on different threads only share the read-only troop types.
+ * The point values and starting forces come from GameRules, MatchSimulator plays with other values to tune them.
+ */
+
+
+public class GameEngine
+{
+    // interface for whoever shows the match, every method is optional
+    public interface GameEventListener
+    {
+        default void onTerritoryChanged(Territory territory) {}
+        default void onContinentChanged(Player player, String continent, boolean gained) {}
+        default void onPlayerEliminated(Player player) {}
+        default void onTurnStarted(Player player) {}
+        default void onGameOver(Player winner, boolean wonByPoints) {}
+    }
+
+    private static final GameEventListener NO_LISTENER = new GameEventListener() {};
+
+    // core game state
+    private final List<Player> _players;
+    private final WorldMapData _worldMapData;
+    private final List<Territory> _territories;
+    private final Map<String, List<Territory>> _continents;
+    private final OwnershipIndex _ownership;
+    private final RandomGenerator _random;
+    private final GameRules _rules;
+    private final int _maxPoints;
+    private int _currentPlayerIndex;
+    private boolean _gameOver;
+    private Player _winner;
+    private final Map<Player, Set<String>> _playerControlledContinents = new HashMap<>();
+
+    // battle scratch, counts by TroopType ordinal, an engine plays its match on one thread
+    private final int[] _attackingCounts = new int[TroopType.COUNT];
+    private final int[] _defendingCounts = new int[TroopType.COUNT];
+    private final int[] _attackerSurvivors = new int[TroopType.COUNT];
+    private final int[] _defenderSurvivors = new int[TroopType.COUNT];
+
+    private GameEventListener _listener = NO_LISTENER;
+    private boolean _logging = true;
+
+
+    // ctor, a match with the default rules
+    public GameEngine(List<Player> players, WorldMapData worldMapData, RandomGenerator random)
+    {
+        this(players, worldMapData, GameRules.DEFAULT, random);
+    }
+
+
+    // ctor
+    public GameEngine(List<Player> players, WorldMapData worldMapData, GameRules rules, RandomGenerator random)
+    {
+        _players = players;
+        _worldMapData = worldMapData;
+        _territories = worldMapData.getTerritories();
+        _continents = worldMapData.getContinentTerritories();
+        _ownership = worldMapData.getOwnershipIndex();
+        _rules = rules;
+        _random = random;
+        _maxPoints = rules.getMaxPoints(players.size());
+    }
+
+
+    // initializes the first round: three territories with one troop each, plus two troops deployable
+    public void initializeGame()
+    {
+        assignInitialTerritories();
+
+        for (Player player : _players)
+        {
+            for (Territory territory : getPlayerTerritories(player))
+            {
+                territory.addTroops(pickRandomTroopType(), 1);
+            }
+            addRandomTroopsToPlayer(player, _rules.initialTroopsPerPlayer());
+        }
+        _currentPlayerIndex = 0;
+    }
+
+
+    // at the start of the game, each player gets 3 territories from a random continent
+    private void assignInitialTerritories()
+    {
+        List<String> continentNames = new ArrayList<>(_continents.keySet());
+        Collections.sort(continentNames);
+        Collections.shuffle(continentNames, _random);
+
+        // each player has one continent to spawn
+        for (int i = 0; i < _players.size(); i++)
+        {
+            Player player = _players.get(i);
+            List<Territory> continentTerritories = new ArrayList<>(_continents.get(continentNames.get(i)));
+            Collections.shuffle(continentTerritories, _random);
+
+            for (int j = 0; j < _rules.initialTerritoriesPerPlayer() && j < continentTerritories.size(); j++)
+            {
+                Territory territory = continentTerritories.get(j);
+                territory.setOwner(player);
+                player.modifyPoints(_rules.territoryPoints());
+                _listener.onTerritoryChanged(territory);
+            }
+        }
+    }
+
+
+    // ends the current player's turn and gives the next one reinforcements
+    public void nextTurn()
+    {
+        if (_gameOver) return;
+
+        for (Territory territory : _ownership.getTerritories(getCurrentPlayer()))
+        {
+            territory.resetTroopActions();
+        }
+
+        advanceToNextPlayer();
+        assignReinforcements();
+        _listener.onTurnStarted(getCurrentPlayer());
+    }
+
+
+    // goes to the next player
+    private void advanceToNextPlayer()
+    {
+        int originalIndex = _currentPlayerIndex;
+        do
+        {
+            _currentPlayerIndex = (_currentPlayerIndex + 1) % _players.size();
+        }
+        while (_players.get(_currentPlayerIndex).isEliminated()
+                && _currentPlayerIndex != originalIndex);
+    }
+
+
+    // assigns reinforcements based on the player's points
+    private void assignReinforcements()
+    {
+        Player currentPlayer = getCurrentPlayer();
+        int reinforcements = Math.max(1, currentPlayer.getPoints() / _rules.troopsPerTurnDivisor());
+        addRandomTroopsToPlayer(currentPlayer, reinforcements);
+    }
+
+
+    // deploys troops of the current player to a territory
+    public void deployTroops(Territory territory, Map<String, Integer> troops)
+    {
+        for (Map.Entry<String, Integer> entry : troops.entrySet())
+        {
+            territory.addTroops(entry.getKey(), entry.getValue());
+            log("Deployed " + entry.getValue() + " " + entry.getKey() + " to " + territory.getName());
+        }
+        getCurrentPlayer().removeTroops(troops);
+        _listener.onTerritoryChanged(territory);
+    }
+
+
+    // moves troops between two territories, the moved troop types cannot act again this turn
+    public void moveTroops(Territory source, Territory target, Map<String, Integer> troops)
+    {
+        log("Moving troops from " + source.getName() + " to " + target.getName() + ": " + troops);
+
+        source.removeTroops(troops);
+        target.addTroops(troops);
+
+        for (String troopType : troops.keySet())
+        {
+            source.markTroopAsActed(troopType);
+            target.markTroopAsActed(troopType);
+        }
+
+        _listener.onTerritoryChanged(source);
+        _listener.onTerritoryChanged(target);
+    }
+
+
+    // an undefended territory asks a single question, harder when attacking with fewer troops
+    public int getUndefendedQuestionDifficulty(Map<String, Integer> attackingTroops)
+    {
+        int totalAttackingTroops = countTroops(attackingTroops);
+        if (totalAttackingTroops <= 2) {return 3;}
+        if (totalAttackingTroops <= 4) {return 2;}
+        return 1;
+    }
+
+
+    // category of the question for an undefended territory: the most common attacking troop, ties broken at random
+    public Question.Category getUndefendedQuestionCategory(Map<String, Integer> attackingTroops)
+    {
+        int highestCount = 0;
+        List<String> troopTypesWithHighestCount = new ArrayList<>();
+
+        for (Map.Entry<String, Integer> entry : attackingTroops.entrySet())
+        {
+            if (entry.getValue() > highestCount)
+            {
+                highestCount = entry.getValue();
+                troopTypesWithHighestCount.clear();
+                troopTypesWithHighestCount.add(entry.getKey());
+            }
+            else if (entry.getValue() == highestCount)
+            {
+                troopTypesWithHighestCount.add(entry.getKey());
+            }
+        }
+
+        String mostCommonTroopType = troopTypesWithHighestCount.get(_random.nextInt(troopTypesWithHighestCount.size()));
+        return TroopVector.typeOf(mostCommonTroopType).getCategory();
+    }
+
+
+    // resolves an attack on an undefended territory, a wrong answer costs the troops their action but not their lives
+    public void resolveUndefendedAttack(Territory source, Territory target, Map<String, Integer> attackingTroops, boolean correct)
+    {
+        if (correct)
+        {
+            // fake score to go to resolveBattle
+            resolveBattle(source, target, getCurrentPlayer(), target.getOwner(), attackingTroops, Map.of(), 100, 0);
+            return;
+        }
+
+        for (String troopType : attackingTroops.keySet())
+        {
+            source.markTroopAsActed(troopType);
+        }
+        _listener.onTerritoryChanged(source);
+        log("Attack failed on undefended territory - troops marked as used but not lost");
+    }
+
+
+    // decides the battle results based on scores, returns true when the attacker conquers the territory
+    public boolean resolveBattle(Territory source, Territory target, Player attacker, Player defender,
+                                 Map<String, Integer> attackingTroops, Map<String, Integer> defendingTroops,
+                                 int attackerScore, int defenderScore)
+    {
+        int attackerTroopCount = toCounts(attackingTroops, _attackingCounts);
+        int defenderTroopCount = toCounts(defendingTroops, _defendingCounts);
+        Arrays.fill(_attackerSurvivors, 0);
+        Arrays.fill(_defenderSurvivors, 0);
+        boolean attackerWins;
+
+        // 0-0 tie - both sides lose all troops, defender keeps territory (I mean they both deserve to lose XD)
+        if (attackerScore == 0 && defenderScore == 0)
+        {
+            log("0-0 tie: Both players lose all troops");
+            attackerWins = false;
+        }
+
+        // regular tie - equalize to lower count
+        else if (attackerScore == defenderScore)
+        {
+            int lowerCount = Math.min(attackerTroopCount, defenderTroopCount);
+
+            if (_logging)
+            {
+                log("Regular tie: Equalizing troops to lower count, Attacker=" + attackerTroopCount +
+                    ", Defender=" + defenderTroopCount + ", Target=" + lowerCount);
+            }
+
+            // both players get reduced to the lower troop count
+            selectSurvivors(_attackingCounts, lowerCount, _attackerSurvivors);
+            selectSurvivors(_defendingCounts, lowerCount, _defenderSurvivors);
+            attackerWins = false;
+        }
+
+        // attacker wins, the defender loses all troops and the attacker loses some based on how close the battle was
+        else if (attackerScore > defenderScore)
+        {
+            log("Attacker wins!");
+            calculateWinnerTroopLosses(_attackingCounts, attackerTroopCount, attackerScore, defenderScore, _attackerSurvivors);
+            attackerWins = true;
+        }
+
+        // defender wins, the other way round
+        else
+        {
+            log("Defender wins!");
+            calculateWinnerTroopLosses(_defendingCounts, defenderTroopCount, defenderScore, attackerScore, _defenderSurvivors);
+            attackerWins = false;
+        }
+
+        applyBattleResults(source, target, attacker, defender, attackingTroops,
+                           _attackerSurvivors, _defenderSurvivors, attackerWins);
+
+        if (attackerWins)
+        {
+            attacker.modifyPoints(_rules.territoryPoints());
+            checkVictory(attacker);
+        }
+        return attackerWins;
+    }
+
+
+    // applies the calculated battle results to the game state, survivors are counts by TroopType ordinal
+    private void applyBattleResults(Territory source, Territory target, Player attacker, Player defender,
+                                    Map<String, Integer> attackingTroops,
+                                    int[] survivingAttackerTroops,
+                                    int[] survivingDefenderTroops,
+                                    boolean attackerWins)
+    {
+        source.removeTroops(attackingTroops);
+        target.clearTroops();
+
+        if (attackerWins)
+        {
+            target.setOwner(attacker);
+
+            for (int type = 0; type < TroopType.COUNT; type++)
+            {
+                if (survivingAttackerTroops[type] > 0)
+                {
+                    TroopType troopType = TroopType.of(type);
+                    target.addTroops(troopType, survivingAttackerTroops[type]);
+                    target.markTroopAsActed(troopType);
+                }
+            }
+
+            // check for continent bonuses and losses
+            checkContinentBonus(attacker, target);
+            checkContinentLoss(defender, target);
+            checkPlayerElimination(defender);
+
+            if (_logging) {log("Territory conquered: " + formatTroops(survivingAttackerTroops) + " troops moved to " + target.getName());}
+        }
+        else
+        {
+            for (int type = 0; type < TroopType.COUNT; type++)
+            {
+                if (survivingDefenderTroops[type] > 0)
+                {
+                    target.addTroops(TroopType.of(type), survivingDefenderTroops[type]);
+                }
+            }
+
+            for (int type = 0; type < TroopType.COUNT; type++)
+            {
+                if (survivingAttackerTroops[type] > 0)
+                {
+                    TroopType troopType = TroopType.of(type);
+                    source.addTroops(troopType, survivingAttackerTroops[type]);
+                    source.markTroopAsActed(troopType);
+                }
+            }
+
+            if (_logging)
+            {
+                log("Territory defended: " + formatTroops(survivingDefenderTroops) + " troops remain, " +
+                    formatTroops(survivingAttackerTroops) + " attacker troops return to source");
+            }
+        }
+
+        _listener.onTerritoryChanged(target);
+        _listener.onTerritoryChanged(source);
+    }
+
+
+    // calculates the surviving troops for the winner based on the score difference (ratio)
+    private void calculateWinnerTroopLosses(int[] originalTroops, int troopCount, int winnerScore, int loserScore, int[] survivors)
+    {
+        // if the loser scored 0, the winner keeps all his troops
+        if (loserScore == 0)
+        {
+            System.arraycopy(originalTroops, 0, survivors, 0, originalTroops.length);
+            return;
+        }
+
+        // converts the dominance ratio to a survival rate
+        float totalPoints = winnerScore + loserScore;
+        float dominanceRatio = (winnerScore - loserScore) / totalPoints;
+        float survivalRate = Math.max(0.3f, Math.min(0.8f, 0.2f + dominanceRatio * 0.4f));
+
+        int troopsToRetain = Math.max(1, Math.round(troopCount * survivalRate));
+        selectSurvivors(originalTroops, troopsToRetain, survivors);
+    }
+
+
+    // randomly keeps count troops, same odds as shuffling the troops one by one and keeping the first ones (see TroopSampler)
+    private void selectSurvivors(int[] originalTroops, int count, int[] survivors)
+    {
+        TroopSampler.select(originalTroops, count, _random, survivors);
+
+        if (_logging) {log("Troop survival: " + formatTroops(originalTroops) + " -> " + formatTroops(survivors) + " (selected " + count + ")");}
+    }
+
+
+    // fills counts by TroopType ordinal from a troop map, returns the total
+    private static int toCounts(Map<String, Integer> troops, int[] counts)
+    {
+        Arrays.fill(counts, 0);
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : troops.entrySet())
+        {
+            TroopType type = TroopVector.typeOf(entry.getKey());
+            counts[type.ordinal()] += entry.getValue();
+            total += entry.getValue();
+        }
+        return total;
+    }
+
+
+    // counts by TroopType ordinal written like a troop map, for the log
+    private static String formatTroops(int[] counts)
+    {
+        StringBuilder text = new StringBuilder("{");
+        for (int type = 0; type < counts.length; type++)
+        {
+            if (counts[type] == 0) {continue;}
+            if (text.length() > 1) {text.append(", ");}
+            text.append(TroopType.of(type).getName()).append('=').append(counts[type]);
+        }
+        return text.append('}').toString();
+    }
+
+
+    // checks the win, by points or as the last player standing
+    private void checkVictory(Player player)
+    {
+        boolean wonByPoints = player.getPoints() >= _maxPoints;
+
+        int remainingPlayers = 0;
+        for (Player p : _players)
+        {
+            if (!p.isEliminated()) {remainingPlayers++;}
+        }
+
+        if (wonByPoints || remainingPlayers <= 1)
+        {
+            _gameOver = true;
+            _winner = player;
+            player.setWinner(true);
+
+            log(player.getName() + " wins! " +
+                (wonByPoints ? "Points victory: " + player.getPoints() + "/" + _maxPoints : "Last player standing!"));
+            _listener.onGameOver(player, wonByPoints);
+        }
+    }
+
+
+    // if a player conquers a territory, checks if he completed a continent
+    private void checkContinentBonus(Player conqueror, Territory conqueredTerritory)
+    {
+        String continent = conqueredTerritory.getContinent();
+        if (!_ownership.ownsContinentOf(conqueror, conqueredTerritory)) {return;}
+
+        _playerControlledContinents.computeIfAbsent(conqueror, p -> new HashSet<>()).add(continent);
+        conqueror.modifyPoints(_rules.continentBonus());
+
+        log(conqueror.getName() + " completed continent '" + continent + "' and receives " + _rules.continentBonus() + " bonus points!");
+        _listener.onContinentChanged(conqueror, continent, true);
+    }
+
+
+    // checks if a player has lost control of a continent after losing a territory
+    private void checkContinentLoss(Player defender, Territory lostTerritory)
+    {
+        if (defender == null) return;
+
+        String continent = lostTerritory.getContinent();
+        Set<String> controlledContinents = _playerControlledContinents.get(defender);
+
+        // if player doesn't control this continent, nothing to check
+        if (controlledContinents == null || !controlledContinents.contains(continent)) {return;}
+
+        if (!_ownership.ownsContinentOf(defender, lostTerritory))
+        {
+            controlledContinents.remove(continent);
+            defender.modifyPoints(-_rules.continentBonus());
+
+            log(defender.getName() + " lost control of continent '" + continent + "' and loses " + _rules.continentBonus() + " points!");
+            _listener.onContinentChanged(defender, continent, false);
+        }
+    }
+
+
+    // check if a player lost all his territories
+    private void checkPlayerElimination(Player player)
+    {
+        if (player == null || player.isEliminated() || _ownership.getTerritoryCount(player) > 0) {return;}
+
+        player.eliminate();
+        log(player.getName() + " has been eliminated from the game!");
+        _listener.onPlayerEliminated(player);
+    }
+
+
+    // checks if a territory can be attacked from a source territory
+    public boolean canAttackTerritory(Territory source, Territory target)
+    {
+        return target != null &&
+            source != null &&
+            source.getNeighbors().contains(target) &&
+            target.getOwner() != getCurrentPlayer();
+    }
+
+
+    // checks if troops can move from a source territory to a target
+    public boolean canMoveTo(Territory source, Territory target)
+    {
+        return target != null &&
+            source != null &&
+            source.getNeighbors().contains(target) &&
+            target.getOwner() == getCurrentPlayer();
+    }
+
+
+    // get valid attack targets from a source territory
+    public List<Territory> getValidAttackTargets(Territory source)
+    {
+        if (source == null) {return Collections.emptyList();}
+
+        List<Territory> validTargets = new ArrayList<>();
+        for (Territory neighbor : source.getNeighbors())
+        {
+            if (neighbor.getOwner() != getCurrentPlayer()) {validTargets.add(neighbor);}
+        }
+        return validTargets;
+    }
+
+
+    // return territories where the player could move
+    public List<Territory> getValidMoveTargets(Territory source)
+    {
+        if (source == null) {return Collections.emptyList();}
+
+        List<Territory> validTargets = new ArrayList<>();
+        for (Territory neighbor : source.getNeighbors())
+        {
+            if (neighbor.getOwner() == getCurrentPlayer()) {validTargets.add(neighbor);}
+        }
+        return validTargets;
+    }
+
+
+    // return the territories owned by a player, a read-only view kept up to date by the ownership index
+    public List<Territory> getPlayerTerritories(Player player)
+    {
+        return _ownership.getTerritories(player);
+    }
+
+
+    // a random troop type, each type with the same chance
+    private TroopType pickRandomTroopType()
+    {
+        return TroopType.of(_random.nextInt(TroopType.COUNT));
+    }
+
+
+    // adds random troops to a player
+    private void addRandomTroopsToPlayer(Player player, int troopCount)
+    {
+        for (int i = 0; i < troopCount; i++)
+        {
+            player.addTroops(pickRandomTroopType(), 1);
+        }
+    }
+
+
+    // counts the total number of troops in a map, helper
+    private static int countTroops(Map<String, Integer> troops)
+    {
+        int total = 0;
+        for (Integer count : troops.values()) {total += count;}
+        return total;
+    }
+
+
+    private void log(String message)
+    {
+        if (_logging) {System.out.println(message);}
+    }
+
+
+    // public getters and setters
+    public int getMaxPoints() {return _maxPoints;}
+    public GameRules getRules() {return _rules;}
+    public List<Player> getPlayers() {return new ArrayList<>(_players);}
+    public Player getCurrentPlayer() {return _players.get(_currentPlayerIndex);}
+    public boolean isGameOver() {return _gameOver;}
+    public Player getWinner() {return _winner;}
+    public WorldMapData getWorldMapData() {return _worldMapData;}
+    public List<Territory> getTerritories() {return Collections.unmodifiableList(_territories);}
+    public Set<String> getControlledContinents(Player player) {return new HashSet<>(_playerControlledContinents.getOrDefault(player, Set.of()));}
+    public RandomGenerator getRandom() {return _random;}
+    public void setListener(GameEventListener listener) {_listener = listener != null ? listener : NO_LISTENER;}
+    public void setLogging(boolean logging) {_logging = logging;}
+}
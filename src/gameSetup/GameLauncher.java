@@ -4,6 +4,8 @@ package gameSetup;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 
+import map.MapPanel;
+
 import trivia.DuelPanel;
 import trivia.QuizPanel;
 
@@ -389,6 +391,10 @@ public class GameLauncher
             
             content.revalidate(); 
             content.repaint();
+            
+            // the map is laid out by then, its layers are rescaled in the background
+            MapPanel mapPanel = findComponentRecursive(MapPanel.class, content);
+            if (mapPanel != null) {SwingUtilities.invokeLater(mapPanel::requestRescale);}
         });
     }
 
@@ -0,0 +1,69 @@
+package gameSetup;
+
+
+/*
+ * GameRules holds the numbers that tune a match: points per territory and per continent, starting forces,
+ * how points turn into reinforcements and how many points win, depending on the number of players.
+ * DEFAULT is the game as shipped, with(KEY, value) gives a copy with one rule changed, the keys are the field
+ * names in upper snake case, as the constants were called before, e.g. TERRITORY_POINTS=150.
+ */
+
+
+public record GameRules(int territoryPoints,
+                        int continentBonus,
+                        int initialTroopsPerPlayer,
+                        int initialTerritoriesPerPlayer,
+                        int troopsPerTurnDivisor,
+                        int maxPointsTwoPlayers,
+                        int maxPointsThreePlayers,
+                        int maxPointsMorePlayers)
+{
+    public static final GameRules DEFAULT = new GameRules(100, 200, 2, 3, 200, 3600, 3200, 2800);
+
+
+    // with more players you need less points to win
+    public int getMaxPoints(int playerCount)
+    {
+        return switch (playerCount)
+        {
+            case 2 -> maxPointsTwoPlayers;
+            case 3 -> maxPointsThreePlayers;
+            default -> maxPointsMorePlayers;
+        };
+    }
+
+
+    // copy with one rule changed
+    public GameRules with(String key, int value)
+    {
+        int[] values = {territoryPoints, continentBonus, initialTroopsPerPlayer, initialTerritoriesPerPlayer,
+                        troopsPerTurnDivisor, maxPointsTwoPlayers, maxPointsThreePlayers, maxPointsMorePlayers};
+        int index = switch (key)
+        {
+            case "TERRITORY_POINTS" -> 0;
+            case "CONTINENT_BONUS" -> 1;
+            case "INITIAL_TROOPS_PER_PLAYER" -> 2;
+            case "INITIAL_TERRITORIES_PER_PLAYER" -> 3;
+            case "TROOPS_PER_TURN_DIVISOR" -> 4;
+            case "MAX_POINTS_TWO_PLAYERS" -> 5;
+            case "MAX_POINTS_THREE_PLAYERS" -> 6;
+            case "MAX_POINTS_MORE_PLAYERS" -> 7;
+            default -> throw new IllegalArgumentException("Unknown game rule: " + key);
+        };
+        if (value < 0 || (index == 4 && value == 0))
+        {
+            throw new IllegalArgumentException("Invalid value for " + key + ": " + value);
+        }
+        values[index] = value;
+        return new GameRules(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7]);
+    }
+
+
+    // parses KEY=VALUE
+    public GameRules with(String assignment)
+    {
+        int separator = assignment.indexOf('=');
+        if (separator < 0) {throw new IllegalArgumentException("Expected KEY=VALUE, got: " + assignment);}
+        return with(assignment.substring(0, separator).trim(), Integer.parseInt(assignment.substring(separator + 1).trim()));
+    }
+}
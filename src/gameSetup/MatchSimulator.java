@@ -0,0 +1,514 @@
+package gameSetup;
+
+
+import map.Territory;
+import map.WorldMapData;
+
+import trivia.Question;
+import trivia.QuestionDatabase;
+import troops.TroopType;
+import troops.TroopVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+
+/*
+ * MatchSimulator plays many headless matches on GameEngine to see how the rules balance out.
+ * Every player follows the same script (deploy on the most exposed territory, take undefended territories,
+ * attack the weakest neighbor that is not stronger) and answers trivia through its AnswerModel.
+ * The seats rotate between matches so the first player advantage does not land on one model.
+ * Matches run in chunks on the fork/join common pool, each chunk reuses one map; match i is seeded from the
+ * seed and i alone, so the results do not depend on the number of threads.
+ * SimulationFarm plays single matches through playSession, which also draws the trivia from a QuestionDatabase.
+ * usage: java gameSetup.MatchSimulator [--matches N] [--max-turns N] [--seed N]
+ *                                      [--rule KEY=VALUE]... [--player ACCURACY_SPEC]...
+ */
+
+
+public class MatchSimulator
+{
+    private static final int DEFAULT_MATCHES = 100_000;
+    private static final int DEFAULT_MAX_TURNS = 1_000;
+    private static final int CHUNK_SIZE = 500;
+    private static final TroopType[] TROOP_TYPES = TroopType.values();
+
+    private final GameRules _rules;
+    private final AnswerModel[] _models;
+    private final int _maxTurns;
+    private final long _seed;
+
+
+    // ctor, one model per player
+    public MatchSimulator(GameRules rules, AnswerModel[] models, int maxTurns, long seed)
+    {
+        _rules = rules;
+        _models = models.clone();
+        _maxTurns = maxTurns;
+        _seed = seed;
+    }
+
+
+    // plays the matches, in parallel when there is more than one chunk
+    public SimulationStats run(int matches)
+    {
+        int chunkCount = (matches + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunkCount).parallel()
+            .mapToObj(chunk -> runChunk(chunk * CHUNK_SIZE, Math.min(matches, (chunk + 1) * CHUNK_SIZE)))
+            .reduce(SimulationStats::merge)
+            .orElseGet(() -> new SimulationStats(_models.length, _maxTurns, new WorldMapData()));
+    }
+
+
+    private SimulationStats runChunk(int from, int to)
+    {
+        MatchRunner runner = new MatchRunner(null);
+        SimulationStats stats = new SimulationStats(_models.length, _maxTurns, runner._worldMapData);
+        for (int match = from; match < to; match++)
+        {
+            runner.play(match, new SplittableRandom(_seed + match), stats);
+        }
+        return stats;
+    }
+
+
+    // plays match number index on a map of its own, the questions are drawn from a session database
+    // over an index taken by QuestionDatabase.getLoadedIndex; nothing is shared with other sessions but the read-only banks
+    SimulationStats playSession(int index, Question[][][] questions)
+    {
+        SplittableRandom random = new SplittableRandom(_seed + index);
+        MatchRunner runner = new MatchRunner(QuestionDatabase.forSession(questions, random.split()));
+        SimulationStats stats = new SimulationStats(_models.length, _maxTurns, runner._worldMapData);
+        runner.play(index, random, stats);
+        return stats;
+    }
+
+
+    public int getPlayerCount() {return _models.length;}
+    public int getMaxTurns() {return _maxTurns;}
+
+
+    /*
+     * plays matches one after the other on its own map, never shared between threads
+     */
+    private class MatchRunner implements GameEngine.GameEventListener
+    {
+        private final WorldMapData _worldMapData = new WorldMapData();
+        private final Territory[] _territories = _worldMapData.getTerritories().toArray(new Territory[0]);
+        private final QuestionDatabase _questions; // null when the answers skip the question draw
+        private int[] _attackerQuestions = new int[16];
+        private int[] _defenderQuestions = new int[16];
+        private int _attackerScore;
+        private int _defenderScore;
+        private boolean _wonByPoints;
+
+
+        // ctor
+        MatchRunner(QuestionDatabase questions)
+        {
+            _questions = questions;
+        }
+
+
+        @Override
+        public void onGameOver(Player winner, boolean wonByPoints) {_wonByPoints = wonByPoints;}
+
+
+        // plays match number index to the end or to the turn limit
+        void play(int index, SplittableRandom random, SimulationStats stats)
+        {
+            // the players of the last match leave the ownership index with their territories
+            _worldMapData.getOwnershipIndex().reset();
+            for (Territory territory : _territories)
+            {
+                territory.clearTroops();
+            }
+
+            // seat s is played by model (s + index) % n
+            int playerCount = _models.length;
+            List<Player> players = new ArrayList<>(playerCount);
+            AnswerModel[] seatModels = new AnswerModel[playerCount];
+            for (int seat = 0; seat < playerCount; seat++)
+            {
+                players.add(new Player(null, "Player " + (seat + 1)));
+                seatModels[seat] = _models[(seat + index) % playerCount];
+            }
+
+            _wonByPoints = false;
+            GameEngine engine = new GameEngine(players, _worldMapData, _rules, random);
+            engine.setLogging(false);
+            engine.setListener(this);
+            engine.initializeGame();
+
+            int turns = 0;
+            while (!engine.isGameOver() && turns < _maxTurns)
+            {
+                Player player = engine.getCurrentPlayer();
+                playTurn(engine, player, players, seatModels, random);
+                if (!engine.isGameOver()) {engine.nextTurn();}
+                turns++;
+            }
+
+            int winnerSeat = engine.isGameOver() ? players.indexOf(engine.getWinner()) : -1;
+            stats.record(winnerSeat, winnerSeat < 0 ? -1 : (winnerSeat + index) % playerCount, _wonByPoints, turns, _territories, engine.getWinner());
+        }
+
+
+        // the scripted turn: deploy everything, then attack from every territory that still has troops to act
+        private void playTurn(GameEngine engine, Player player, List<Player> players, AnswerModel[] seatModels, SplittableRandom random)
+        {
+            if (player.getAvailableTroops() > 0)
+            {
+                Territory mostExposed = null;
+                int mostEnemies = -1;
+                for (Territory territory : _territories)
+                {
+                    if (territory.getOwner() != player) {continue;}
+                    int enemies = countEnemyNeighbors(territory, player);
+                    if (enemies > mostEnemies)
+                    {
+                        mostEnemies = enemies;
+                        mostExposed = territory;
+                    }
+                }
+                if (mostExposed == null) {return;}
+                engine.deployTroops(mostExposed, player.getAvailableTroopsMap());
+            }
+
+            AnswerModel model = seatModels[players.indexOf(player)];
+            for (Territory source : _territories)
+            {
+                if (source.getOwner() != player || !source.hasTroopsForAction()) {continue;}
+
+                int attackingCount = 0;
+                for (TroopType type : TROOP_TYPES) {attackingCount += source.getAvailableTroopCount(type);}
+
+                Territory target = chooseTarget(source, player, attackingCount);
+                if (target == null) {continue;}
+
+                Map<String, Integer> attacking = source.getAvailableTroopsForAction();
+
+                if (target.getOwner() == null || target.getTroopCount() == 0)
+                {
+                    int difficulty = engine.getUndefendedQuestionDifficulty(attacking);
+                    Question.Category category = engine.getUndefendedQuestionCategory(attacking);
+                    engine.resolveUndefendedAttack(source, target, attacking, answers(model, category, difficulty, random));
+                }
+                else
+                {
+                    Player defender = target.getOwner();
+                    Map<String, Integer> defending = target.getTroops();
+                    duel(attacking, defending, model, seatModels[players.indexOf(defender)], random);
+                    engine.resolveBattle(source, target, player, defender, attacking, defending, _attackerScore, _defenderScore);
+                }
+
+                if (engine.isGameOver()) {return;}
+            }
+        }
+
+
+        // an undefended neighbor first, otherwise the weakest enemy neighbor that is not stronger than the attack
+        private Territory chooseTarget(Territory source, Player player, int attackingCount)
+        {
+            Territory weakest = null;
+            int weakestCount = Integer.MAX_VALUE;
+            for (Territory neighbor : source.getNeighbors())
+            {
+                if (neighbor.getOwner() == player) {continue;}
+
+                int defenders = neighbor.getTroopCount();
+                if (defenders == 0) {return neighbor;}
+                if (defenders < weakestCount)
+                {
+                    weakestCount = defenders;
+                    weakest = neighbor;
+                }
+            }
+            return weakestCount <= attackingCount ? weakest : null;
+        }
+
+
+        // the DuelPanel exchange: one question per troop, turns alternate from the attacker,
+        // the duel ends when the side to answer has no question left, a correct answer is worth difficulty x 100
+        private void duel(Map<String, Integer> attacking, Map<String, Integer> defending,
+                          AnswerModel attackerModel, AnswerModel defenderModel, SplittableRandom random)
+        {
+            _attackerQuestions = fillQuestions(attacking, _attackerQuestions);
+            _defenderQuestions = fillQuestions(defending, _defenderQuestions);
+            int attackerCount = countTroops(attacking);
+            int defenderCount = countTroops(defending);
+
+            _attackerScore = 0;
+            _defenderScore = 0;
+            int attackerIndex = 0;
+            int defenderIndex = 0;
+            boolean attackerTurn = true;
+            Question.Category[] categories = Question.Category.values();
+
+            while (true)
+            {
+                if (attackerTurn)
+                {
+                    if (attackerIndex >= attackerCount) {break;}
+                    Question.Category category = categories[_attackerQuestions[attackerIndex++]];
+                    int difficulty = attackerModel.getDuelDifficulty(category);
+                    if (answers(attackerModel, category, difficulty, random)) {_attackerScore += difficulty * 100;}
+                }
+                else
+                {
+                    if (defenderIndex >= defenderCount) {break;}
+                    Question.Category category = categories[_defenderQuestions[defenderIndex++]];
+                    int difficulty = defenderModel.getDuelDifficulty(category);
+                    if (answers(defenderModel, category, difficulty, random)) {_defenderScore += difficulty * 100;}
+                }
+                attackerTurn = !attackerTurn;
+            }
+        }
+
+
+        // asks a question of the category, drawn from the database when there is one
+        private boolean answers(AnswerModel model, Question.Category category, int difficulty, SplittableRandom random)
+        {
+            if (_questions != null)
+            {
+                Question question = _questions.getRandomQuestion(category, difficulty);
+                if (question != null) {return model.answers(question.getCategory(), question.getDifficulty(), random);}
+            }
+            return model.answers(category, difficulty, random);
+        }
+
+
+        // category ordinals of the questions, one per troop in the order of the map
+        private int[] fillQuestions(Map<String, Integer> troops, int[] questions)
+        {
+            int count = countTroops(troops);
+            if (questions.length < count) {questions = new int[Math.max(count, questions.length * 2)];}
+
+            int index = 0;
+            for (Map.Entry<String, Integer> entry : troops.entrySet())
+            {
+                int category = TroopVector.typeOf(entry.getKey()).getCategory().ordinal();
+                for (int i = 0; i < entry.getValue(); i++) {questions[index++] = category;}
+            }
+            return questions;
+        }
+
+
+        private int countEnemyNeighbors(Territory territory, Player player)
+        {
+            int enemies = 0;
+            for (Territory neighbor : territory.getNeighbors())
+            {
+                if (neighbor.getOwner() != player) {enemies++;}
+            }
+            return enemies;
+        }
+    }
+
+
+    private static int countTroops(Map<String, Integer> troops)
+    {
+        int total = 0;
+        for (int count : troops.values()) {total += count;}
+        return total;
+    }
+
+
+    /*
+     * totals of a batch of matches, batches played on different threads are merged at the end
+     */
+    public static class SimulationStats
+    {
+        private final int _playerCount;
+        private final String[] _continentNames;
+        private final int[][] _continentTerritories; // continent -> indexes into the territory array
+        private long _matches;
+        private final long[] _winsByModel;
+        private final long[] _winsBySeat;
+        private long _unfinished;
+        private long _pointsVictories;
+        private long _totalTurns;
+        private final long[] _turnHistogram;
+        private final long[] _continentHeldByWinner;
+        private final long[] _winnerContinentCounts;
+
+
+        // ctor
+        public SimulationStats(int playerCount, int maxTurns, WorldMapData worldMapData)
+        {
+            _playerCount = playerCount;
+            _winsByModel = new long[playerCount];
+            _winsBySeat = new long[playerCount];
+            _turnHistogram = new long[maxTurns + 1];
+
+            Map<String, List<Territory>> continents = worldMapData.getContinentTerritories();
+            List<Territory> territories = worldMapData.getTerritories();
+            _continentNames = continents.keySet().toArray(new String[0]);
+            Arrays.sort(_continentNames);
+            _continentTerritories = new int[_continentNames.length][];
+            for (int i = 0; i < _continentNames.length; i++)
+            {
+                _continentTerritories[i] = continents.get(_continentNames[i]).stream().mapToInt(territories::indexOf).toArray();
+            }
+            _continentHeldByWinner = new long[_continentNames.length];
+            _winnerContinentCounts = new long[_continentNames.length + 1];
+        }
+
+
+        // adds one match, seat and model are -1 when it hit the turn limit
+        void record(int winnerSeat, int winnerModel, boolean wonByPoints, int turns, Territory[] territories, Player winner)
+        {
+            _matches++;
+            _totalTurns += turns;
+            _turnHistogram[turns]++;
+
+            if (winnerSeat < 0)
+            {
+                _unfinished++;
+                return;
+            }
+
+            _winsBySeat[winnerSeat]++;
+            _winsByModel[winnerModel]++;
+            if (wonByPoints) {_pointsVictories++;}
+
+            int held = 0;
+            for (int continent = 0; continent < _continentNames.length; continent++)
+            {
+                boolean ownsAll = true;
+                for (int territory : _continentTerritories[continent])
+                {
+                    if (territories[territory].getOwner() != winner) {ownsAll = false; break;}
+                }
+                if (ownsAll)
+                {
+                    _continentHeldByWinner[continent]++;
+                    held++;
+                }
+            }
+            _winnerContinentCounts[held]++;
+        }
+
+
+        // adds the other batch into this one
+        public SimulationStats merge(SimulationStats other)
+        {
+            _matches += other._matches;
+            _unfinished += other._unfinished;
+            _pointsVictories += other._pointsVictories;
+            _totalTurns += other._totalTurns;
+            for (int i = 0; i < _playerCount; i++)
+            {
+                _winsByModel[i] += other._winsByModel[i];
+                _winsBySeat[i] += other._winsBySeat[i];
+            }
+            for (int i = 0; i < _turnHistogram.length; i++) {_turnHistogram[i] += other._turnHistogram[i];}
+            for (int i = 0; i < _continentHeldByWinner.length; i++) {_continentHeldByWinner[i] += other._continentHeldByWinner[i];}
+            for (int i = 0; i < _winnerContinentCounts.length; i++) {_winnerContinentCounts[i] += other._winnerContinentCounts[i];}
+            return this;
+        }
+
+
+        public long getMatches() {return _matches;}
+        public long getWins(int model) {return _winsByModel[model];}
+        public long getUnfinished() {return _unfinished;}
+        public double getAverageTurns() {return _matches == 0 ? 0 : (double) _totalTurns / _matches;}
+
+
+        // turn count below which the given fraction of the matches ended
+        public int getTurnPercentile(double fraction)
+        {
+            long target = (long) Math.ceil(fraction * _matches);
+            long seen = 0;
+            for (int turns = 0; turns < _turnHistogram.length; turns++)
+            {
+                seen += _turnHistogram[turns];
+                if (seen >= target && seen > 0) {return turns;}
+            }
+            return _turnHistogram.length - 1;
+        }
+
+
+        public void print(AnswerModel[] models)
+        {
+            long finished = Math.max(1, _matches - _unfinished);
+            System.out.println("Wins by answer model:");
+            for (int i = 0; i < _playerCount; i++)
+            {
+                System.out.printf("  model %d (%s): %5.1f%%%n", i + 1, models[i], 100.0 * _winsByModel[i] / Math.max(1, _matches));
+            }
+            System.out.println("Wins by seat:");
+            for (int i = 0; i < _playerCount; i++)
+            {
+                System.out.printf("  seat %d: %5.1f%%%n", i + 1, 100.0 * _winsBySeat[i] / Math.max(1, _matches));
+            }
+            System.out.printf("Unfinished at the turn limit: %.2f%%%n", 100.0 * _unfinished / Math.max(1, _matches));
+            System.out.printf("Won on points: %.1f%%, last player standing: %.1f%%%n",
+                              100.0 * _pointsVictories / finished, 100.0 * (finished - _pointsVictories) / finished);
+            System.out.printf("Match length in turns: mean %.1f, median %d, p90 %d, p99 %d%n",
+                              getAverageTurns(), getTurnPercentile(0.5), getTurnPercentile(0.9), getTurnPercentile(0.99));
+
+            System.out.println("Continents fully held by the winner at the end:");
+            for (int i = 0; i < _continentNames.length; i++)
+            {
+                System.out.printf("  %-20s %5.1f%%%n", _continentNames[i], 100.0 * _continentHeldByWinner[i] / finished);
+            }
+            System.out.print("Number of continents held by the winner:");
+            for (int i = 0; i < _winnerContinentCounts.length; i++)
+            {
+                if (_winnerContinentCounts[i] > 0) {System.out.printf("  %d: %.1f%%", i, 100.0 * _winnerContinentCounts[i] / finished);}
+            }
+            System.out.println();
+        }
+    }
+
+
+    public static void main(String[] args)
+    {
+        int matches = DEFAULT_MATCHES;
+        int maxTurns = DEFAULT_MAX_TURNS;
+        long seed = System.nanoTime();
+        GameRules rules = GameRules.DEFAULT;
+        List<AnswerModel> models = new ArrayList<>();
+
+        try
+        {
+            for (int i = 0; i < args.length; i++)
+            {
+                switch (args[i])
+                {
+                    case "--matches" -> matches = Integer.parseInt(args[++i]);
+                    case "--max-turns" -> maxTurns = Integer.parseInt(args[++i]);
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--rule" -> rules = rules.with(args[++i]);
+                    case "--player" -> models.add(AnswerModel.parse(args[++i]));
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (models.isEmpty()) {models = List.of(AnswerModel.uniform(0.7), AnswerModel.uniform(0.7), AnswerModel.uniform(0.7));}
+            if (models.size() < 2) {throw new IllegalArgumentException("At least two players are needed");}
+        }
+        catch (RuntimeException e)
+        {
+            System.err.println(e.getMessage());
+            System.err.println("usage: java gameSetup.MatchSimulator [--matches N] [--max-turns N] [--seed N] [--rule KEY=VALUE]... [--player ACCURACY_SPEC]...");
+            System.exit(1);
+        }
+
+        AnswerModel[] modelArray = models.toArray(new AnswerModel[0]);
+        System.out.println("Rules: " + rules);
+        System.out.println("Seed: " + seed);
+
+        long start = System.nanoTime();
+        SimulationStats stats = new MatchSimulator(rules, modelArray, maxTurns, seed).run(matches);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Simulated %,d matches in %.1f s (%,.0f matches/min on %d threads)%n",
+                          stats.getMatches(), seconds, stats.getMatches() / seconds * 60, Runtime.getRuntime().availableProcessors());
+        stats.print(modelArray);
+    }
+}
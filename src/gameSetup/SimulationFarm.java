@@ -0,0 +1,217 @@
+package gameSetup;
+
+
+import trivia.Question;
+import trivia.QuestionDatabase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+
+/*
+ * SimulationFarm replays many independent matches at once, the way a tournament night runs them, to check a rule
+ * change before it is played. Every session runs on its own virtual thread with its own map, players, GameEngine,
+ * SplittableRandom and QuestionDatabase session (own bags over the shared read-only banks, taken once here), so
+ * while they play the sessions share no mutable state and no lock, the semaphore that admits them aside;
+ * the players follow the MatchSimulator script.
+ * The farm is run once per concurrency level, a semaphore lets that many sessions play at the same time,
+ * and the report gives the best throughput of a few runs of each level against one session at a time.
+ * A level is a number of concurrent sessions, not of cores: they all share the carrier threads of the virtual
+ * thread scheduler, one per processor unless -Djdk.virtualThreadScheduler.parallelism=N says otherwise,
+ * so the throughput stops growing once the level passes the carrier count. The report prints that count.
+ * usage: java gameSetup.SimulationFarm [--sessions N] [--levels 1,2,4,...] [--repeat N] [--max-turns N] [--seed N]
+ *                                      [--rule KEY=VALUE]... [--player ACCURACY_SPEC]...
+ */
+
+
+public class SimulationFarm
+{
+    private static final int DEFAULT_SESSIONS = 2_000;
+    private static final int DEFAULT_MAX_TURNS = 1_000;
+    private static final int[] DEFAULT_LEVELS = {1, 2, 4, 8, 16, 32, 64};
+    private static final int DEFAULT_REPEATS = 3;
+    private static final int MAX_WARMUP_PASSES = 30;
+    private static final double WARMUP_TOLERANCE = 0.05;
+    private static final long MIN_WARMUP_NANOS = 10_000_000_000L;
+    private static final String PARALLELISM_PROPERTY = "jdk.virtualThreadScheduler.parallelism";
+
+    private final MatchSimulator _simulator;
+    private final Question[][][] _questions;
+
+
+    // ctor, the banks of the database are loaded here, before any session starts, and the sessions
+    // only get the loaded index, so none of them takes a lock of the database
+    public SimulationFarm(MatchSimulator simulator, QuestionDatabase questions)
+    {
+        _simulator = simulator;
+        _questions = questions.getLoadedIndex();
+    }
+
+
+    // plays the sessions with at most concurrency of them running at once, one virtual thread each
+    public MatchSimulator.SimulationStats run(int sessions, int concurrency) throws InterruptedException
+    {
+        Semaphore running = new Semaphore(concurrency);
+        List<Future<MatchSimulator.SimulationStats>> results = new ArrayList<>(sessions);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor())
+        {
+            for (int session = 0; session < sessions; session++)
+            {
+                int index = session;
+                results.add(executor.submit(() ->
+                {
+                    running.acquire();
+                    try
+                    {
+                        return _simulator.playSession(index, _questions);
+                    }
+                    finally
+                    {
+                        running.release();
+                    }
+                }));
+            }
+        }
+
+        MatchSimulator.SimulationStats stats = null;
+        for (Future<MatchSimulator.SimulationStats> result : results)
+        {
+            try
+            {
+                stats = stats == null ? result.get() : stats.merge(result.get());
+            }
+            catch (ExecutionException e)
+            {
+                throw new IllegalStateException("A session failed", e.getCause());
+            }
+        }
+        return stats;
+    }
+
+
+    // sessions per second at a concurrency level
+    private double measure(int sessions, int concurrency) throws InterruptedException
+    {
+        long start = System.nanoTime();
+        run(sessions, concurrency);
+        return sessions / ((System.nanoTime() - start) / 1e9);
+    }
+
+
+    public static void main(String[] args) throws InterruptedException
+    {
+        int sessions = DEFAULT_SESSIONS;
+        int maxTurns = DEFAULT_MAX_TURNS;
+        int[] levels = DEFAULT_LEVELS;
+        int repeats = DEFAULT_REPEATS;
+        long seed = System.nanoTime();
+        GameRules rules = GameRules.DEFAULT;
+        List<AnswerModel> models = new ArrayList<>();
+
+        try
+        {
+            for (int i = 0; i < args.length; i++)
+            {
+                switch (args[i])
+                {
+                    case "--sessions" -> sessions = Integer.parseInt(args[++i]);
+                    case "--max-turns" -> maxTurns = Integer.parseInt(args[++i]);
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--levels" -> levels = parseLevels(args[++i]);
+                    case "--repeat" -> repeats = Integer.parseInt(args[++i]);
+                    case "--rule" -> rules = rules.with(args[++i]);
+                    case "--player" -> models.add(AnswerModel.parse(args[++i]));
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (models.isEmpty()) {models = List.of(AnswerModel.uniform(0.7), AnswerModel.uniform(0.7), AnswerModel.uniform(0.7));}
+            if (models.size() < 2) {throw new IllegalArgumentException("At least two players are needed");}
+            if (sessions < 1 || repeats < 1) {throw new IllegalArgumentException("At least one session and one run are needed");}
+        }
+        catch (RuntimeException e)
+        {
+            System.err.println(e.getMessage());
+            System.err.println("usage: java gameSetup.SimulationFarm [--sessions N] [--levels 1,2,4,...] [--repeat N] [--max-turns N] [--seed N] [--rule KEY=VALUE]... [--player ACCURACY_SPEC]...");
+            System.exit(1);
+        }
+
+        AnswerModel[] modelArray = models.toArray(new AnswerModel[0]);
+        System.out.println("Rules: " + rules);
+        System.out.println("Seed: " + seed);
+
+        MatchSimulator simulator = new MatchSimulator(rules, modelArray, maxTurns, seed);
+        SimulationFarm farm = new SimulationFarm(simulator, new QuestionDatabase());
+
+        // unmeasured passes over every level, at least 10 s and until two in a row agree, so no level is timed
+        // with a half warm JIT (the compiler threads take a while when they share few processors)
+        long warmupStart = System.nanoTime();
+        double previous = 0;
+        for (int pass = 0; pass < MAX_WARMUP_PASSES; pass++)
+        {
+            double perSecond = 0;
+            for (int level : levels)
+            {
+                perSecond += farm.measure(sessions, level) / levels.length;
+            }
+            boolean settled = Math.abs(perSecond - previous) < WARMUP_TOLERANCE * perSecond;
+            if (settled && System.nanoTime() - warmupStart >= MIN_WARMUP_NANOS) {break;}
+            previous = perSecond;
+        }
+
+        System.out.printf("%,d sessions per level, %d processors, %d carrier threads%n",
+                          sessions, Runtime.getRuntime().availableProcessors(), getCarrierParallelism());
+        System.out.println("  concurrent sessions   sessions/s   vs one at a time");
+        double baseline = 0;
+        for (int level : levels)
+        {
+            double best = 0;
+            for (int run = 0; run < repeats; run++)
+            {
+                best = Math.max(best, farm.measure(sessions, level));
+            }
+            if (baseline == 0) {baseline = best;}
+            System.out.printf("  %19d   %10.0f   %15.2fx%n", level, best, best / baseline);
+        }
+
+        // every level plays the same sessions, the results are the same whatever the concurrency
+        farm.run(sessions, levels[levels.length - 1]).print(modelArray);
+    }
+
+
+    // the carrier threads the virtual threads run on, the scheduler uses one per processor by default
+    private static int getCarrierParallelism()
+    {
+        String parallelism = System.getProperty(PARALLELISM_PROPERTY);
+        if (parallelism != null)
+        {
+            try
+            {
+                return Integer.parseInt(parallelism.trim());
+            }
+            catch (NumberFormatException e)
+            {
+                System.err.println("Ignoring " + PARALLELISM_PROPERTY + "=" + parallelism);
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+
+    private static int[] parseLevels(String list)
+    {
+        String[] parts = list.split(",");
+        int[] levels = new int[parts.length];
+        for (int i = 0; i < parts.length; i++)
+        {
+            levels[i] = Integer.parseInt(parts[i].trim());
+            if (levels[i] < 1) {throw new IllegalArgumentException("Invalid concurrency level: " + parts[i]);}
+        }
+        return levels;
+    }
+}
@@ -0,0 +1,239 @@
+package gameSetup;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+
+/*
+ * TroopSampler picks the troops that survive a battle. An army is an int[] of counts by TroopType ordinal,
+ * choosing k troops out of it without replacement is a multivariate hypergeometric draw, done one troop type
+ * at a time: the count of a type is a hypergeometric draw among the troops not yet looked at.
+ * The univariate draw is an inversion that starts from the mode and walks outwards, so it takes a few steps
+ * around the mode instead of one step per troop, and it needs no list, no boxing and no allocation.
+ * The result has the same law as shuffling all the troops and keeping the first k, the main method checks it
+ * against the shuffle with a chi-square test.
+ */
+
+
+public final class TroopSampler
+{
+    // exact log(n!) up to here, Stirling's series above
+    private static final int LOG_FACTORIAL_TABLE_SIZE = 1024;
+    private static final double[] LOG_FACTORIALS = new double[LOG_FACTORIAL_TABLE_SIZE];
+    private static final double HALF_LOG_TWO_PI = 0.5 * Math.log(2 * Math.PI);
+
+    static
+    {
+        for (int n = 2; n < LOG_FACTORIAL_TABLE_SIZE; n++)
+        {
+            LOG_FACTORIALS[n] = LOG_FACTORIALS[n - 1] + Math.log(n);
+        }
+    }
+
+
+    private TroopSampler() {}
+
+
+    // keeps count troops of the army chosen at random, selected gets the count kept of each type
+    public static void select(int[] troops, int count, RandomGenerator random, int[] selected)
+    {
+        int remaining = 0;
+        for (int troop : troops) {remaining += troop;}
+
+        int toDraw = Math.min(count, remaining);
+        for (int type = 0; type < troops.length; type++)
+        {
+            int drawn = hypergeometric(remaining, troops[type], toDraw, random);
+            selected[type] = drawn;
+            toDraw -= drawn;
+            remaining -= troops[type];
+        }
+    }
+
+
+    // number of marked items among draws taken without replacement from population items, marked of them marked
+    static int hypergeometric(int population, int marked, int draws, RandomGenerator random)
+    {
+        if (draws == 0 || marked == 0) {return 0;}
+        if (marked == population) {return draws;}
+        if (draws == population) {return marked;}
+
+        int unmarked = population - marked;
+        int low = Math.max(0, draws - unmarked);
+        int high = Math.min(draws, marked);
+        if (low == high) {return low;}
+
+        int mode = (int) ((draws + 1L) * (marked + 1L) / (population + 2L));
+        mode = Math.max(low, Math.min(high, mode));
+        double modeProbability = Math.exp(logChoose(marked, mode) + logChoose(unmarked, draws - mode) - logChoose(population, draws));
+
+        double u = random.nextDouble() - modeProbability;
+        if (u <= 0) {return mode;}
+
+        // p(x + 1) / p(x) = (marked - x) (draws - x) / ((x + 1) (unmarked - draws + x + 1)), walks both ways at once
+        int up = mode;
+        int down = mode;
+        double upProbability = modeProbability;
+        double downProbability = modeProbability;
+        while (up < high || down > low)
+        {
+            if (up < high)
+            {
+                upProbability *= (double) (marked - up) * (draws - up) / ((double) (up + 1) * (unmarked - draws + up + 1));
+                up++;
+                u -= upProbability;
+                if (u <= 0) {return up;}
+            }
+            if (down > low)
+            {
+                downProbability *= (double) down * (unmarked - draws + down) / ((double) (marked - down + 1) * (draws - down + 1));
+                down--;
+                u -= downProbability;
+                if (u <= 0) {return down;}
+            }
+        }
+
+        // only rounding is left over
+        return mode;
+    }
+
+
+    private static double logChoose(int n, int k)
+    {
+        return logFactorial(n) - logFactorial(k) - logFactorial(n - k);
+    }
+
+
+    private static double logFactorial(int n)
+    {
+        if (n < LOG_FACTORIAL_TABLE_SIZE) {return LOG_FACTORIALS[n];}
+        double x = n;
+        return x * Math.log(x) - x + HALF_LOG_TWO_PI + 0.5 * Math.log(x) + 1 / (12 * x) - 1 / (360 * x * x * x);
+    }
+
+
+    /*
+     * distribution check: the troops kept by select and by the old list shuffle, counted per outcome
+     * and compared with a chi-square test of homogeneity; a |z| above 3 would mean they differ
+     * usage: java gameSetup.TroopSampler [--samples N] [--seed N]
+     */
+    public static void main(String[] args)
+    {
+        int samples = 200_000;
+        long seed = System.nanoTime();
+        for (int i = 0; i < args.length; i++)
+        {
+            switch (args[i])
+            {
+                case "--samples" -> samples = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                default ->
+                {
+                    System.err.println("usage: java gameSetup.TroopSampler [--samples N] [--seed N]");
+                    System.exit(1);
+                }
+            }
+        }
+        System.out.println("Seed: " + seed);
+
+        int[][] armies = {{4, 2, 3, 1, 2}, {1, 0, 6, 0, 2}, {40, 25, 10, 15, 30}, {300, 5, 120, 0, 75}};
+        int[] keep = {5, 4, 70, 333};
+        Random random = new Random(seed);
+        for (int a = 0; a < armies.length; a++)
+        {
+            int[] army = armies[a];
+            Map<String, long[]> outcomes = new HashMap<>();
+            int[] selected = new int[army.length];
+
+            for (int s = 0; s < samples; s++)
+            {
+                select(army, keep[a], random, selected);
+                outcomes.computeIfAbsent(outcomeKey(army, selected), key -> new long[2])[0]++;
+                shuffleSelect(army, keep[a], random, selected);
+                outcomes.computeIfAbsent(outcomeKey(army, selected), key -> new long[2])[1]++;
+            }
+
+            // timed apart from the counting above
+            long start = System.nanoTime();
+            for (int s = 0; s < samples; s++)
+            {
+                select(army, keep[a], random, selected);
+            }
+            long samplerNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int s = 0; s < samples; s++)
+            {
+                shuffleSelect(army, keep[a], random, selected);
+            }
+            long shuffleNanos = System.nanoTime() - start;
+
+            // rare outcomes are pooled so every cell expects at least 5 of each
+            double chiSquare = 0;
+            int cells = 0;
+            long[] pooled = new long[2];
+            for (long[] counts : outcomes.values())
+            {
+                if (counts[0] + counts[1] < 10)
+                {
+                    pooled[0] += counts[0];
+                    pooled[1] += counts[1];
+                    continue;
+                }
+                chiSquare += cellChiSquare(counts);
+                cells++;
+            }
+            if (pooled[0] + pooled[1] > 0)
+            {
+                chiSquare += cellChiSquare(pooled);
+                cells++;
+            }
+
+            int degrees = Math.max(1, cells - 1);
+            double z = (Math.cbrt(chiSquare / degrees) - (1 - 2.0 / (9 * degrees))) / Math.sqrt(2.0 / (9 * degrees));
+            System.out.printf("army %-22s keep %3d: %5d outcomes, chi-square %8.1f, df %5d, z %5.2f | %5.0f ns per draw, shuffle %6.0f ns%n",
+                              Arrays.toString(army), keep[a], outcomes.size(), chiSquare, degrees, z,
+                              (double) samplerNanos / samples, (double) shuffleNanos / samples);
+        }
+    }
+
+
+    // the old selection: one list entry per troop, shuffled, the first count kept
+    private static void shuffleSelect(int[] troops, int count, Random random, int[] selected)
+    {
+        List<Integer> allTroops = new ArrayList<>();
+        for (int type = 0; type < troops.length; type++)
+        {
+            for (int i = 0; i < troops[type]; i++) {allTroops.add(type);}
+        }
+        Collections.shuffle(allTroops, random);
+
+        Arrays.fill(selected, 0);
+        for (int i = 0; i < Math.min(count, allTroops.size()); i++) {selected[allTroops.get(i)]++;}
+    }
+
+
+    private static String outcomeKey(int[] army, int[] selected)
+    {
+        StringBuilder key = new StringBuilder();
+        for (int type = 0; type < army.length; type++) {key.append(selected[type]).append(',');}
+        return key.toString();
+    }
+
+
+    // both methods draw the same number of samples, so each expects half of the cell
+    private static double cellChiSquare(long[] counts)
+    {
+        double expected = (counts[0] + counts[1]) / 2.0;
+        double first = counts[0] - expected;
+        double second = counts[1] - expected;
+        return (first * first + second * second) / expected;
+    }
+}
@@ -0,0 +1,238 @@
+package map;
+
+
+import java.awt.Color;
+import java.awt.Point;
+import java.awt.Rectangle;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+
+/*
+ * MapGeometryCache keeps the territory raster and the territory geometry derived from the click detection map,
+ * so later launches read one small file instead of decoding and scanning the image.
+ * The file starts with a key made of the size and CRC32C of the detection image and a CRC32C of the territory colors,
+ * when either changes the cache no longer matches and is rebuilt. A CRC is enough to notice an edited image
+ * and, unlike a cryptographic digest, costs a few milliseconds on a cold JVM.
+ * layout: magic, version, key[16], then deflated: width, height, territory count,
+ *         per territory (name, area, centroid, bounds, label point), raster bytes
+ */
+
+
+public class MapGeometryCache
+{
+    private static final int MAGIC = 0x54434D47; // "TCMG"
+    private static final int VERSION = 1;
+    private static final int HASH_SIZE = 16;
+    private static final int HEADER_SIZE = 8 + HASH_SIZE;
+    private static final long MAX_RASTER_PIXELS = 1L << 26;
+
+    private final TerritoryRaster _raster;
+    private final Map<Territory, TerritoryGeometry> _geometry;
+
+
+    // ctor
+    public MapGeometryCache(TerritoryRaster raster, Map<Territory, TerritoryGeometry> geometry)
+    {
+        _raster = raster;
+        _geometry = geometry;
+    }
+
+
+    public TerritoryRaster getRaster() {return _raster;}
+    public Map<Territory, TerritoryGeometry> getGeometry() {return _geometry;}
+
+
+    // key of the detection image and of the color table, null if the image cannot be read
+    public static byte[] hashSources(String detectionMapPath, Map<Color, Territory> colorToTerritory)
+    {
+        try
+        {
+            byte[] image = Files.readAllBytes(Paths.get(detectionMapPath));
+            CRC32C imageChecksum = new CRC32C();
+            imageChecksum.update(image);
+
+            List<String> entries = new ArrayList<>();
+            for (Map.Entry<Color, Territory> entry : colorToTerritory.entrySet())
+            {
+                entries.add(entry.getValue().getName() + "=" + Integer.toHexString(entry.getKey().getRGB()));
+            }
+            entries.sort(null);
+            CRC32C colorChecksum = new CRC32C();
+            colorChecksum.update(String.join(";", entries).getBytes(StandardCharsets.UTF_8));
+
+            return ByteBuffer.allocate(HASH_SIZE)
+                .putLong(image.length)
+                .putInt((int) imageChecksum.getValue())
+                .putInt((int) colorChecksum.getValue())
+                .array();
+        }
+        catch (IOException e)
+        {
+            System.err.println("Cannot hash map sources: " + e.getMessage());
+            return null;
+        }
+    }
+
+
+    // reads the cache with a single file read, null when it is missing, damaged or built from other sources
+    public static MapGeometryCache load(String cachePath, byte[] sourceHash, Collection<Territory> territories)
+    {
+        Path path = Paths.get(cachePath);
+        if (!Files.exists(path)) return null;
+
+        try
+        {
+            byte[] content = Files.readAllBytes(path);
+            DataInputStream header = new DataInputStream(new ByteArrayInputStream(content));
+            byte[] hash = new byte[HASH_SIZE];
+            if (content.length < HEADER_SIZE || header.readInt() != MAGIC || header.readInt() != VERSION)
+            {
+                System.err.println("Ignoring map geometry cache with unknown format: " + cachePath);
+                return null;
+            }
+            header.readFully(hash);
+            if (!Arrays.equals(hash, sourceHash))
+            {
+                System.out.println("Map geometry cache is out of date, rebuilding it");
+                return null;
+            }
+
+            Map<String, Territory> byName = new HashMap<>();
+            for (Territory territory : territories)
+            {
+                byName.put(territory.getName(), territory);
+            }
+
+            DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(content, HEADER_SIZE, content.length - HEADER_SIZE), new Inflater(), 1 << 16));
+
+            // sizes come from the file, a damaged one must not size the allocations below
+            int width = in.readInt();
+            int height = in.readInt();
+            int count = in.readUnsignedByte();
+            if (width <= 0 || height <= 0 || (long) width * height > MAX_RASTER_PIXELS || count == 0 || count > territories.size())
+            {
+                System.err.println("Ignoring map geometry cache with invalid sizes: " + width + "x" + height + ", " + count + " territories");
+                return null;
+            }
+
+            // raster ids start at 1, 0 is for pixels outside every territory
+            Territory[] ids = new Territory[count + 1];
+            Map<Territory, TerritoryGeometry> geometry = new HashMap<>();
+            for (int id = 1; id <= count; id++)
+            {
+                String name = in.readUTF();
+                int area = in.readInt();
+                Point centroid = new Point(in.readInt(), in.readInt());
+                Rectangle bounds = new Rectangle(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+                Point label = new Point(in.readInt(), in.readInt());
+
+                ids[id] = byName.get(name);
+                if (ids[id] == null)
+                {
+                    System.err.println("Map geometry cache names an unknown territory: " + name);
+                    return null;
+                }
+                if (area > 0)
+                {
+                    geometry.put(ids[id], new TerritoryGeometry(centroid, bounds, area, label));
+                }
+            }
+
+            byte[] raster = new byte[width * height];
+            in.readFully(raster);
+            for (byte id : raster)
+            {
+                if ((id & 0xFF) > count)
+                {
+                    System.err.println("Map geometry cache has an unknown territory id: " + (id & 0xFF));
+                    return null;
+                }
+            }
+            return new MapGeometryCache(new TerritoryRaster(width, height, raster, ids), geometry);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Cannot read map geometry cache: " + e.getMessage());
+            return null;
+        }
+    }
+
+
+    // writes the cache next to the images, through a temporary file so a crash never leaves half a cache
+    public void save(String cachePath, byte[] sourceHash)
+    {
+        Path path = Paths.get(cachePath);
+        Path temporary = Paths.get(cachePath + ".tmp");
+
+        try
+        {
+            try (OutputStream file = Files.newOutputStream(temporary))
+            {
+                DataOutputStream header = new DataOutputStream(file);
+                header.writeInt(MAGIC);
+                header.writeInt(VERSION);
+                header.write(sourceHash);
+                header.flush();
+
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(file), 1 << 16));
+                Territory[] ids = _raster.getTerritories();
+                out.writeInt(_raster.getWidth());
+                out.writeInt(_raster.getHeight());
+                out.writeByte(ids.length - 1);
+
+                for (int id = 1; id < ids.length; id++)
+                {
+                    TerritoryGeometry geometry = _geometry.get(ids[id]);
+                    Point centroid = geometry != null ? geometry.getCentroid() : new Point();
+                    Rectangle bounds = geometry != null ? geometry.getBounds() : new Rectangle();
+                    Point label = geometry != null ? geometry.getLabelPoint() : new Point();
+
+                    out.writeUTF(ids[id].getName());
+                    out.writeInt(geometry != null ? geometry.getArea() : 0);
+                    out.writeInt(centroid.x);
+                    out.writeInt(centroid.y);
+                    out.writeInt(bounds.x);
+                    out.writeInt(bounds.y);
+                    out.writeInt(bounds.width);
+                    out.writeInt(bounds.height);
+                    out.writeInt(label.x);
+                    out.writeInt(label.y);
+                }
+                out.write(_raster.getIds());
+                out.close();
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.println("Map geometry cache written to " + cachePath + " (" + Files.size(path) / 1024 + " KB)");
+        }
+        catch (IOException e)
+        {
+            System.err.println("Cannot write map geometry cache: " + e.getMessage());
+            try {Files.deleteIfExists(temporary);} catch (IOException ignored) {}
+        }
+    }
+}
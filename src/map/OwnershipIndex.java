@@ -0,0 +1,161 @@
+package map;
+
+
+import gameSetup.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/*
+ * OwnershipIndex keeps, for every player, the territories owned (a list) and how many in each continent and in total.
+ * WorldMapData builds one for its territories and Territory.setOwner keeps it up to date, a change of owner
+ * moves the territory from the old owner to the new one, so "does the player hold the whole continent",
+ * "does the player still own anything" and "which territories are his" are answered without looking at the map.
+ * A territory remembers its slot in its owner's list, it leaves the list by swapping in the last one: O(1) both ways,
+ * but the order of the list is not the map order.
+ * Like the territories it belongs to, it is used by one match on one thread.
+ */
+
+
+public class OwnershipIndex
+{
+    private final String[] _continentNames;
+    private final int[] _continentSizes;
+    private final Map<String, Integer> _continentIds = new HashMap<>();
+
+    private final Map<Player, Holdings> _holdings = new HashMap<>();
+
+    // what a player owns
+    private static class Holdings
+    {
+        private final int[] _counts; // per continent id, the total in the last slot
+        private final List<Territory> _territories = new ArrayList<>();
+        private final List<Territory> _view = Collections.unmodifiableList(_territories);
+
+        Holdings(int continents) {_counts = new int[continents + 1];}
+    }
+
+
+    // ctor, numbers the continents and links the territories to the index, they must have no owner yet
+    OwnershipIndex(List<Territory> territories)
+    {
+        _continentNames = territories.stream().map(Territory::getContinent).distinct().sorted().toArray(String[]::new);
+        _continentSizes = new int[_continentNames.length];
+        for (int id = 0; id < _continentNames.length; id++)
+        {
+            _continentIds.put(_continentNames[id], id);
+        }
+
+        for (Territory territory : territories)
+        {
+            int id = _continentIds.get(territory.getContinent());
+            _continentSizes[id]++;
+            territory.attachOwnershipIndex(this, id);
+        }
+    }
+
+
+    // called by Territory.setOwner when the owner really changes, before the territory gets the new owner;
+    // the lists and the counts of both owners change together here
+    void ownerChanged(Territory territory, Player previousOwner, Player newOwner)
+    {
+        int continentId = territory.getContinentId();
+        Holdings next = newOwner == null ? null : _holdings.computeIfAbsent(newOwner, player -> new Holdings(_continentNames.length));
+
+        if (previousOwner != null)
+        {
+            Holdings previous = _holdings.get(previousOwner);
+            previous._counts[continentId]--;
+            previous._counts[_continentNames.length]--;
+
+            // the last territory of the list takes the freed slot
+            int slot = territory.getOwnerSlot();
+            Territory last = previous._territories.remove(previous._territories.size() - 1);
+            if (last != territory)
+            {
+                previous._territories.set(slot, last);
+                last.setOwnerSlot(slot);
+            }
+        }
+        territory.setOwnerSlot(-1);
+
+        if (next != null)
+        {
+            next._counts[continentId]++;
+            next._counts[_continentNames.length]++;
+            territory.setOwnerSlot(next._territories.size());
+            next._territories.add(territory);
+        }
+    }
+
+
+    // every territory goes back to no owner and the players are forgotten, for a map reused by another match;
+    // without it the holdings of the players of every past match would stay here
+    public void reset()
+    {
+        for (Holdings holdings : _holdings.values())
+        {
+            for (Territory territory : holdings._territories)
+            {
+                territory.clearOwner();
+            }
+        }
+        _holdings.clear();
+    }
+
+
+    // the territories owned by the player, a read-only view that follows the changes of owner,
+    // so it must not be iterated while owners change
+    public List<Territory> getTerritories(Player player)
+    {
+        Holdings holdings = _holdings.get(player);
+        return holdings == null ? List.of() : holdings._view;
+    }
+
+
+    // territories owned by the player
+    public int getTerritoryCount(Player player)
+    {
+        Holdings holdings = _holdings.get(player);
+        return holdings == null ? 0 : holdings._counts[_continentNames.length];
+    }
+
+
+    // territories owned by the player in a continent
+    public int getTerritoryCount(Player player, String continent)
+    {
+        Integer id = _continentIds.get(continent);
+        Holdings holdings = _holdings.get(player);
+        return id == null || holdings == null ? 0 : holdings._counts[id];
+    }
+
+
+    // whether the player owns every territory of the continent the territory is in
+    public boolean ownsContinentOf(Player player, Territory territory)
+    {
+        Holdings holdings = _holdings.get(player);
+        int id = territory.getContinentId();
+        return holdings != null && holdings._counts[id] == _continentSizes[id];
+    }
+
+
+    // whether the player owns every territory of the continent
+    public boolean ownsContinent(Player player, String continent)
+    {
+        Integer id = _continentIds.get(continent);
+        return id != null && getTerritoryCount(player, continent) == _continentSizes[id];
+    }
+
+
+    public int getContinentSize(String continent)
+    {
+        Integer id = _continentIds.get(continent);
+        return id == null ? 0 : _continentSizes[id];
+    }
+
+    public List<String> getContinentNames() {return List.of(_continentNames);}
+}
@@ -0,0 +1,110 @@
+package map;
+
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/*
+ * ScaledMapLayers holds the map images already scaled to one panel size: the background and the territory sprites.
+ * A set is built away from the event thread with high quality interpolation, painting then copies its images 1:1.
+ * Sprites loaded after the set was built (a new owner color) are scaled the first time they are asked for.
+ * A draft set uses a single bilinear step, cheap enough to build on the event thread before the first paint.
+ */
+
+
+public class ScaledMapLayers
+{
+    private final int _width;
+    private final int _height;
+    private final GraphicsConfiguration _configuration;
+    private final boolean _draft;
+    private final BufferedImage _background;
+    private final Map<TerritorySprite, BufferedImage> _sprites = new ConcurrentHashMap<>();
+
+
+    private ScaledMapLayers(int width, int height, GraphicsConfiguration configuration, boolean draft, BufferedImage background)
+    {
+        _width = width;
+        _height = height;
+        _configuration = configuration;
+        _draft = draft;
+        _background = background;
+    }
+
+
+    // scales the background and every sprite to the panel size, safe to run on any thread
+    public static ScaledMapLayers build(BufferedImage background, Iterable<TerritorySprite> sprites,
+                                        int width, int height, GraphicsConfiguration configuration, boolean draft)
+    {
+        BufferedImage scaledBackground = background != null ? scaleImage(background, width, height, configuration, draft) : null;
+        ScaledMapLayers layers = new ScaledMapLayers(width, height, configuration, draft, scaledBackground);
+        for (TerritorySprite sprite : sprites)
+        {
+            layers.getSprite(sprite);
+        }
+        return layers;
+    }
+
+
+    public int getWidth() {return _width;}
+    public int getHeight() {return _height;}
+    public BufferedImage getBackground() {return _background;}
+    public boolean isDraft() {return _draft;}
+    public boolean matches(int width, int height) {return _width == width && _height == height;}
+
+
+    // sprite image at this size, to be drawn 1:1 at getBounds
+    public BufferedImage getSprite(TerritorySprite sprite)
+    {
+        return _sprites.computeIfAbsent(sprite, s ->
+        {
+            Rectangle bounds = getBounds(s);
+            return scaleImage(s.getImage(), Math.max(1, bounds.width), Math.max(1, bounds.height), _configuration, _draft);
+        });
+    }
+
+
+    public Rectangle getBounds(TerritorySprite sprite) {return sprite.getScaledBounds(_width, _height);}
+
+
+    // bicubic scaling, large reductions go through successive halvings so thin borders do not alias away
+    static BufferedImage scaleImage(BufferedImage source, int width, int height, GraphicsConfiguration configuration, boolean draft)
+    {
+        if (draft) {return drawScaled(source, width, height, configuration, RenderingHints.VALUE_INTERPOLATION_BILINEAR);}
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        while (currentWidth / 2 >= width && currentHeight / 2 >= height)
+        {
+            currentWidth /= 2;
+            currentHeight /= 2;
+            current = drawScaled(current, currentWidth, currentHeight, configuration, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        return drawScaled(current, width, height, configuration, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+
+    private static BufferedImage drawScaled(BufferedImage source, int width, int height, GraphicsConfiguration configuration, Object interpolation)
+    {
+        BufferedImage target = configuration != null
+            ? configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+            : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g2d = target.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(source, 0, 0, width, height, null);
+        g2d.dispose();
+        return target;
+    }
+}
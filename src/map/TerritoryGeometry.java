@@ -0,0 +1,38 @@
+package map;
+
+
+import java.awt.Point;
+import java.awt.Rectangle;
+
+
+/*
+ * TerritoryGeometry holds the shape measures of a territory on the click detection map, in map pixels.
+ * The label point is the interior pixel farthest from the territory border,
+ * so anything drawn around it stays inside the territory, unlike the centroid of a curved shape.
+ */
+
+
+public class TerritoryGeometry
+{
+    private final Point _centroid;
+    private final Rectangle _bounds;
+    private final int _area;
+    private final Point _labelPoint;
+
+
+    // ctor
+    public TerritoryGeometry(Point centroid, Rectangle bounds, int area, Point labelPoint)
+    {
+        _centroid = centroid;
+        _bounds = bounds;
+        _area = area;
+        _labelPoint = labelPoint;
+    }
+
+
+    // getters, copies since Point and Rectangle are mutable
+    public Point getCentroid() {return new Point(_centroid);}
+    public Rectangle getBounds() {return new Rectangle(_bounds);}
+    public int getArea() {return _area;}
+    public Point getLabelPoint() {return new Point(_labelPoint);}
+}
@@ -0,0 +1,385 @@
+package map;
+
+
+import java.awt.Color;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/*
+ * TerritoryRaster stores which territory owns each pixel of the click detection map, as one byte per pixel.
+ * It is built once from the detection image: pixels with the exact color of a territory are kept,
+ * the others are matched to the closest territory color, then every pixel without an exact color
+ * takes the territory most frequent among its 5x5 neighbours. After that a lookup is a single array read.
+ */
+
+
+public class TerritoryRaster
+{
+    private static final int NO_TERRITORY = 0;
+    private static final int EDGE_RADIUS = 2;
+    private static final float MAX_COLOR_DISTANCE = 50;
+    private static final int MIN_ALPHA = 50;
+    private static final int EXACT_MATCH = 0x100;
+
+    // label points are searched on a grid of 4x4 pixel cells, with 3-4 chamfer distances
+    private static final int LABEL_CELL = 4;
+    private static final int STRAIGHT_STEP = 3;
+    private static final int DIAGONAL_STEP = 4;
+
+    private final int _width;
+    private final int _height;
+    private final byte[] _ids;
+    private final Territory[] _territories;
+
+
+    // ctor, reads the detection image one row at a time
+    public TerritoryRaster(BufferedImage detectionMap, Map<Color, Territory> colorToTerritory)
+    {
+        _width = detectionMap.getWidth();
+        _height = detectionMap.getHeight();
+        _ids = new byte[_width * _height];
+
+        // id 0 is reserved for pixels outside every territory
+        List<Territory> territories = new ArrayList<>();
+        territories.add(null);
+        Map<Integer, Integer> exactIds = new HashMap<>();
+        for (Map.Entry<Color, Territory> entry : colorToTerritory.entrySet())
+        {
+            exactIds.put(entry.getKey().getRGB() & 0xFFFFFF, territories.size());
+            territories.add(entry.getValue());
+        }
+        if (territories.size() > 0xFF)
+        {
+            throw new IllegalArgumentException("Too many territories for a byte raster: " + (territories.size() - 1));
+        }
+        _territories = territories.toArray(new Territory[0]);
+
+        boolean[] exact = new boolean[_ids.length];
+        int[] row = new int[_width];
+        Map<Integer, Integer> nearestIds = new HashMap<>();
+        int lastRgb = 0;
+        int lastCode = NO_TERRITORY;
+
+        for (int y = 0; y < _height; y++)
+        {
+            detectionMap.getRGB(0, y, _width, 1, row, 0, _width);
+            for (int x = 0; x < _width; x++)
+            {
+                // neighbouring pixels mostly share their color, the last one is classified again only when it changes
+                int rgb = row[x];
+                if (rgb != lastRgb)
+                {
+                    lastRgb = rgb;
+                    lastCode = classifyColor(rgb, colorToTerritory, exactIds, nearestIds);
+                }
+                _ids[y * _width + x] = (byte) lastCode;
+                exact[y * _width + x] = (lastCode & EXACT_MATCH) != 0;
+            }
+        }
+
+        resolveEdges(exact);
+    }
+
+
+    // pixels without an exact color (anti-aliased edges, borders) follow the majority of the matched pixels around them
+    private void resolveEdges(boolean[] exact)
+    {
+        byte[] matched = _ids.clone();
+        int[] votes = new int[_territories.length];
+
+        // matched pixels per column over the rows of the current window, most windows (sea) hold none and are skipped
+        int[] columnMatches = new int[_width];
+        for (int y = 0; y < Math.min(EDGE_RADIUS, _height); y++)
+        {
+            countRowMatches(matched, y, columnMatches, 1);
+        }
+
+        for (int y = 0; y < _height; y++)
+        {
+            if (y + EDGE_RADIUS < _height) {countRowMatches(matched, y + EDGE_RADIUS, columnMatches, 1);}
+            if (y - EDGE_RADIUS - 1 >= 0) {countRowMatches(matched, y - EDGE_RADIUS - 1, columnMatches, -1);}
+
+            int windowMatches = 0;
+            for (int x = 0; x < Math.min(EDGE_RADIUS, _width); x++)
+            {
+                windowMatches += columnMatches[x];
+            }
+
+            for (int x = 0; x < _width; x++)
+            {
+                if (x + EDGE_RADIUS < _width) {windowMatches += columnMatches[x + EDGE_RADIUS];}
+                if (x - EDGE_RADIUS - 1 >= 0) {windowMatches -= columnMatches[x - EDGE_RADIUS - 1];}
+                if (windowMatches == 0 || exact[y * _width + x]) {continue;}
+
+                int best = NO_TERRITORY;
+                int bestVotes = 0;
+                for (int ny = Math.max(0, y - EDGE_RADIUS); ny <= Math.min(_height - 1, y + EDGE_RADIUS); ny++)
+                {
+                    for (int nx = Math.max(0, x - EDGE_RADIUS); nx <= Math.min(_width - 1, x + EDGE_RADIUS); nx++)
+                    {
+                        int id = matched[ny * _width + nx] & 0xFF;
+                        if (id == NO_TERRITORY) {continue;}
+
+                        if (++votes[id] > bestVotes)
+                        {
+                            bestVotes = votes[id];
+                            best = id;
+                        }
+                    }
+                }
+
+                _ids[y * _width + x] = (byte) best;
+                Arrays.fill(votes, 0);
+            }
+        }
+    }
+
+
+    private void countRowMatches(byte[] matched, int y, int[] columnMatches, int delta)
+    {
+        for (int x = 0, i = y * _width; x < _width; x++, i++)
+        {
+            if (matched[i] != NO_TERRITORY) {columnMatches[x] += delta;}
+        }
+    }
+
+
+    // territory id of a color, flagged when the color is exactly the territory one
+    private static int classifyColor(int rgb, Map<Color, Territory> colorToTerritory, Map<Integer, Integer> exactIds, Map<Integer, Integer> nearestIds)
+    {
+        Integer id = exactIds.get(rgb & 0xFFFFFF);
+        if (id != null && (rgb >>> 24) >= MIN_ALPHA)
+        {
+            return id | EXACT_MATCH;
+        }
+        if (isSignificantColor(rgb))
+        {
+            // anti-aliased colors repeat a lot, each one is matched against the palette once
+            return nearestIds.computeIfAbsent(rgb, c -> findClosestId(c, colorToTerritory, exactIds));
+        }
+        return NO_TERRITORY;
+    }
+
+
+    // id of the territory whose color is closest, if it is close enough
+    private static int findClosestId(int rgb, Map<Color, Territory> colorToTerritory, Map<Integer, Integer> exactIds)
+    {
+        Color color = new Color(rgb);
+        int closest = NO_TERRITORY;
+        float closestDistance = MAX_COLOR_DISTANCE;
+
+        for (Color territoryColor : colorToTerritory.keySet())
+        {
+            float distance = calculateColorDistance(color, territoryColor);
+            if (distance <= closestDistance)
+            {
+                closestDistance = distance;
+                closest = exactIds.get(territoryColor.getRGB() & 0xFFFFFF);
+            }
+        }
+        return closest;
+    }
+
+
+    // not too transparent and not white/black
+    private static boolean isSignificantColor(int rgb)
+    {
+        if ((rgb >>> 24) < MIN_ALPHA) return false;
+
+        int r = (rgb >> 16) & 0xFF;
+        int g = (rgb >> 8) & 0xFF;
+        int b = rgb & 0xFF;
+        return !(r > 240 && g > 240 && b > 240) && !(r < 15 && g < 15 && b < 15);
+    }
+
+
+    // perceptual color distance
+    private static float calculateColorDistance(Color c1, Color c2)
+    {
+        float rMean = (c1.getRed() + c2.getRed()) / 2.0f;
+        float deltaR = c1.getRed() - c2.getRed();
+        float deltaG = c1.getGreen() - c2.getGreen();
+        float deltaB = c1.getBlue() - c2.getBlue();
+
+        float weightR = 2 + rMean / 256;
+        float weightG = 4;
+        float weightB = 2 + (255 - rMean) / 256;
+
+        return (float) Math.sqrt(weightR * deltaR * deltaR +
+                        weightG * deltaG * deltaG +
+                        weightB * deltaB * deltaB);
+    }
+
+
+    // ctor for a raster read back from MapGeometryCache, territories are indexed by raster id
+    TerritoryRaster(int width, int height, byte[] ids, Territory[] territories)
+    {
+        _width = width;
+        _height = height;
+        _ids = ids;
+        _territories = territories;
+    }
+
+
+    // centroid, bounding box, area and label point of every territory, from a single pass over the raster
+    public Map<Territory, TerritoryGeometry> computeGeometry()
+    {
+        int count = _territories.length;
+        long[] sumX = new long[count];
+        long[] sumY = new long[count];
+        int[] area = new int[count];
+        int[] minX = new int[count];
+        int[] minY = new int[count];
+        int[] maxX = new int[count];
+        int[] maxY = new int[count];
+        int[] firstPixel = new int[count];
+        Arrays.fill(minX, Integer.MAX_VALUE);
+        Arrays.fill(minY, Integer.MAX_VALUE);
+
+        for (int y = 0, i = 0; y < _height; y++)
+        {
+            for (int x = 0; x < _width; x++, i++)
+            {
+                int id = _ids[i] & 0xFF;
+                if (id == NO_TERRITORY) {continue;}
+
+                if (area[id]++ == 0) {firstPixel[id] = i;}
+                sumX[id] += x;
+                sumY[id] += y;
+                if (x < minX[id]) minX[id] = x;
+                if (x > maxX[id]) maxX[id] = x;
+                if (y < minY[id]) minY[id] = y;
+                maxY[id] = y;
+            }
+        }
+
+        Point[] centroids = new Point[count];
+        for (int id = 1; id < count; id++)
+        {
+            if (area[id] > 0)
+            {
+                centroids[id] = new Point((int) (sumX[id] / area[id]), (int) (sumY[id] / area[id]));
+            }
+        }
+        Point[] labelPoints = findLabelPoints(centroids);
+
+        Map<Territory, TerritoryGeometry> geometry = new HashMap<>();
+        for (int id = 1; id < count; id++)
+        {
+            if (area[id] == 0) {continue;}
+
+            // territories too thin for the label grid fall back to one of their own pixels
+            Point label = labelPoints[id] != null ? labelPoints[id] : new Point(firstPixel[id] % _width, firstPixel[id] / _width);
+            Rectangle bounds = new Rectangle(minX[id], minY[id], maxX[id] - minX[id] + 1, maxY[id] - minY[id] + 1);
+            geometry.put(_territories[id], new TerritoryGeometry(centroids[id], bounds, area[id], label));
+        }
+        return geometry;
+    }
+
+
+    // pole of inaccessibility of each territory, from a chamfer distance transform on a reduced grid
+    private Point[] findLabelPoints(Point[] centroids)
+    {
+        int columns = (_width + LABEL_CELL - 1) / LABEL_CELL;
+        int rows = (_height + LABEL_CELL - 1) / LABEL_CELL;
+        byte[] cells = new byte[columns * rows];
+        for (int cy = 0; cy < rows; cy++)
+        {
+            int y = Math.min(cy * LABEL_CELL + LABEL_CELL / 2, _height - 1);
+            for (int cx = 0; cx < columns; cx++)
+            {
+                int x = Math.min(cx * LABEL_CELL + LABEL_CELL / 2, _width - 1);
+                cells[cy * columns + cx] = _ids[y * _width + x];
+            }
+        }
+
+        // cells on a territory border or on the map edge start at 0, the others are propagated in two sweeps
+        int[] distance = new int[cells.length];
+        for (int cy = 0; cy < rows; cy++)
+        {
+            for (int cx = 0; cx < columns; cx++)
+            {
+                int c = cy * columns + cx;
+                boolean border = cx == 0 || cy == 0 || cx == columns - 1 || cy == rows - 1
+                    || cells[c - 1] != cells[c] || cells[c + 1] != cells[c]
+                    || cells[c - columns] != cells[c] || cells[c + columns] != cells[c];
+                distance[c] = border ? 0 : Integer.MAX_VALUE / 2;
+            }
+        }
+        for (int cy = 1; cy < rows - 1; cy++)
+        {
+            for (int cx = 1; cx < columns - 1; cx++)
+            {
+                int c = cy * columns + cx;
+                distance[c] = Math.min(distance[c], Math.min(
+                    Math.min(distance[c - 1] + STRAIGHT_STEP, distance[c - columns] + STRAIGHT_STEP),
+                    Math.min(distance[c - columns - 1] + DIAGONAL_STEP, distance[c - columns + 1] + DIAGONAL_STEP)));
+            }
+        }
+        for (int cy = rows - 2; cy > 0; cy--)
+        {
+            for (int cx = columns - 2; cx > 0; cx--)
+            {
+                int c = cy * columns + cx;
+                distance[c] = Math.min(distance[c], Math.min(
+                    Math.min(distance[c + 1] + STRAIGHT_STEP, distance[c + columns] + STRAIGHT_STEP),
+                    Math.min(distance[c + columns + 1] + DIAGONAL_STEP, distance[c + columns - 1] + DIAGONAL_STEP)));
+            }
+        }
+
+        // deepest cell of each territory, ties go to the cell nearest the centroid
+        int[] best = new int[_territories.length];
+        long[] bestCentroidDistance = new long[_territories.length];
+        Arrays.fill(best, -1);
+        for (int c = 0; c < cells.length; c++)
+        {
+            int id = cells[c] & 0xFF;
+            if (id == NO_TERRITORY || centroids[id] == null) {continue;}
+
+            long dx = (c % columns) * LABEL_CELL + LABEL_CELL / 2 - centroids[id].x;
+            long dy = (c / columns) * LABEL_CELL + LABEL_CELL / 2 - centroids[id].y;
+            long centroidDistance = dx * dx + dy * dy;
+            if (best[id] < 0 || distance[c] > distance[best[id]]
+                || (distance[c] == distance[best[id]] && centroidDistance < bestCentroidDistance[id]))
+            {
+                best[id] = c;
+                bestCentroidDistance[id] = centroidDistance;
+            }
+        }
+
+        Point[] labelPoints = new Point[_territories.length];
+        for (int id = 1; id < _territories.length; id++)
+        {
+            if (best[id] >= 0)
+            {
+                labelPoints[id] = new Point(Math.min((best[id] % columns) * LABEL_CELL + LABEL_CELL / 2, _width - 1),
+                                            Math.min((best[id] / columns) * LABEL_CELL + LABEL_CELL / 2, _height - 1));
+            }
+        }
+        return labelPoints;
+    }
+
+
+    // territory at a pixel of the detection map, null outside the map or between territories
+    public Territory getTerritoryAt(int x, int y)
+    {
+        if (x < 0 || y < 0 || x >= _width || y >= _height) return null;
+        return _territories[_ids[y * _width + x] & 0xFF];
+    }
+
+
+    public int getWidth() {return _width;}
+    public int getHeight() {return _height;}
+
+    // raw ids and the territory of each id, for MapGeometryCache
+    byte[] getIds() {return _ids;}
+    Territory[] getTerritories() {return _territories;}
+}
@@ -0,0 +1,182 @@
+package map;
+
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import javax.imageio.ImageIO;
+
+
+/*
+ * TerritorySprite is a territory image cropped to its visible pixels, together with its position
+ * in the full-map image it was cut from. The territory PNGs are full-map size and almost entirely transparent,
+ * keeping and drawing only the sprite rectangle saves both memory and paint time.
+ * TerritorySpriteCropper produces the cropped files and their manifest ahead of time,
+ * images missing from the manifest (or changed since) are cropped when they are loaded. A source counts as
+ * unchanged when its size and its CRC32C match the manifest, as for the MapGeometryCache key.
+ */
+
+
+public class TerritorySprite
+{
+    public static final String TERRITORIES_PATH = "resources/images/territories/";
+    public static final String SPRITES_PATH = TERRITORIES_PATH + "cropped/";
+    public static final String MANIFEST_PATH = SPRITES_PATH + "sprites.txt";
+
+    // key -> {x, y, source width, source height, source file size, source CRC32C}
+    private static Map<String, long[]> _manifest;
+
+    private final BufferedImage _image;
+    private final int _x;
+    private final int _y;
+    private final int _sourceWidth;
+    private final int _sourceHeight;
+
+
+    // ctor, x and y place the image inside a source of the given size
+    public TerritorySprite(BufferedImage image, int x, int y, int sourceWidth, int sourceHeight)
+    {
+        _image = image;
+        _x = x;
+        _y = y;
+        _sourceWidth = sourceWidth;
+        _sourceHeight = sourceHeight;
+    }
+
+
+    // crops an image to the bounding box of its non transparent pixels, the pixels are copied so the source can be released
+    public static TerritorySprite crop(BufferedImage source)
+    {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int minX = width, minY = height, maxX = -1, maxY = -1;
+        int[] row = new int[width];
+
+        for (int y = 0; y < height; y++)
+        {
+            source.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++)
+            {
+                if ((row[x] >>> 24) == 0) {continue;}
+
+                if (x < minX) minX = x;
+                if (x > maxX) maxX = x;
+                if (y < minY) minY = y;
+                maxY = y;
+            }
+        }
+
+        // a fully transparent image keeps a single pixel
+        if (maxX < 0)
+        {
+            return new TerritorySprite(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB), 0, 0, width, height);
+        }
+
+        BufferedImage cropped = new BufferedImage(maxX - minX + 1, maxY - minY + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = cropped.createGraphics();
+        g2d.drawImage(source, -minX, -minY, null);
+        g2d.dispose();
+        return new TerritorySprite(cropped, minX, minY, width, height);
+    }
+
+
+    // loads a territory image by key, null if there is no such image
+    public static TerritorySprite load(String key) throws IOException
+    {
+        File source = new File(TERRITORIES_PATH + key + ".png");
+        if (!source.exists()) return null;
+
+        long[] entry = getManifest().get(key);
+        File sprite = new File(SPRITES_PATH + key + ".png");
+        if (entry != null && entry[4] == source.length() && sprite.exists() && entry[5] == checksum(source))
+        {
+            BufferedImage image = ImageIO.read(sprite);
+            if (image != null)
+            {
+                return new TerritorySprite(image, (int) entry[0], (int) entry[1], (int) entry[2], (int) entry[3]);
+            }
+        }
+
+        BufferedImage image = ImageIO.read(source);
+        return image != null ? crop(image) : null;
+    }
+
+
+    // CRC32C of a source image, a re-exported image of the same size no longer matches its cropped sprite
+    static long checksum(File source) throws IOException
+    {
+        CRC32C checksum = new CRC32C();
+        checksum.update(Files.readAllBytes(source.toPath()));
+        return checksum.getValue();
+    }
+
+
+    private static synchronized Map<String, long[]> getManifest()
+    {
+        if (_manifest != null) return _manifest;
+
+        _manifest = new HashMap<>();
+        if (!new File(MANIFEST_PATH).exists()) return _manifest;
+
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(MANIFEST_PATH), StandardCharsets.UTF_8))
+        {
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                if (line.isBlank() || line.startsWith("#")) {continue;}
+
+                String[] fields = line.split("\\|");
+                if (fields.length != 7)
+                {
+                    System.err.println("Skipping malformed sprite manifest line: " + line);
+                    continue;
+                }
+                long[] entry = new long[6];
+                for (int i = 0; i < entry.length; i++)
+                {
+                    entry[i] = Long.parseLong(fields[i + 1].trim());
+                }
+                _manifest.put(fields[0].trim(), entry);
+            }
+        }
+        catch (IOException | NumberFormatException e)
+        {
+            System.err.println("Cannot read sprite manifest, cropping on load: " + e.getMessage());
+            _manifest.clear();
+        }
+        return _manifest;
+    }
+
+
+    // rectangle covered by the sprite when the whole source is drawn over width x height
+    public Rectangle getScaledBounds(int width, int height)
+    {
+        double scaleX = (double) width / _sourceWidth;
+        double scaleY = (double) height / _sourceHeight;
+        int left = (int) Math.floor(_x * scaleX);
+        int top = (int) Math.floor(_y * scaleY);
+        int right = (int) Math.ceil((_x + _image.getWidth()) * scaleX);
+        int bottom = (int) Math.ceil((_y + _image.getHeight()) * scaleY);
+        return new Rectangle(left, top, right - left, bottom - top);
+    }
+
+
+    public BufferedImage getImage() {return _image;}
+    public int getX() {return _x;}
+    public int getY() {return _y;}
+    public int getSourceWidth() {return _sourceWidth;}
+    public int getSourceHeight() {return _sourceHeight;}
+}
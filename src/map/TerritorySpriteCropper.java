@@ -0,0 +1,66 @@
+package map;
+
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+
+/*
+ * TerritorySpriteCropper is the asset step that crops every full-map territory PNG to its visible pixels.
+ * The cropped images go to resources/images/territories/cropped/ and their offsets to sprites.txt there,
+ * run it again after adding or editing a territory image.
+ * usage: java map.TerritorySpriteCropper
+ */
+
+
+public class TerritorySpriteCropper
+{
+    public static void main(String[] args)
+    {
+        File[] sources = new File(TerritorySprite.TERRITORIES_PATH).listFiles((dir, name) -> name.endsWith(".png"));
+        if (sources == null)
+        {
+            System.err.println("Territory images not found in " + TerritorySprite.TERRITORIES_PATH);
+            System.exit(1);
+        }
+        Arrays.sort(sources);
+        new File(TerritorySprite.SPRITES_PATH).mkdirs();
+
+        long start = System.nanoTime();
+        long sourcePixels = 0;
+        long spritePixels = 0;
+
+        try (PrintWriter manifest = new PrintWriter(TerritorySprite.MANIFEST_PATH, StandardCharsets.UTF_8))
+        {
+            manifest.println("# written by TerritorySpriteCropper, do not edit");
+            manifest.println("# key|x|y|source width|source height|source file size|source crc32c");
+
+            for (File source : sources)
+            {
+                String key = source.getName().substring(0, source.getName().length() - ".png".length());
+                TerritorySprite sprite = TerritorySprite.crop(ImageIO.read(source));
+                ImageIO.write(sprite.getImage(), "png", new File(TerritorySprite.SPRITES_PATH + key + ".png"));
+
+                manifest.println(key + "|" + sprite.getX() + "|" + sprite.getY() + "|" + sprite.getSourceWidth()
+                                 + "|" + sprite.getSourceHeight() + "|" + source.length() + "|" + TerritorySprite.checksum(source));
+                sourcePixels += (long) sprite.getSourceWidth() * sprite.getSourceHeight();
+                spritePixels += (long) sprite.getImage().getWidth() * sprite.getImage().getHeight();
+            }
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error cropping territory images: " + e.getMessage());
+            System.exit(1);
+        }
+
+        System.out.printf("Cropped %d territory images in %d ms, %.1f%% of the pixels kept%n",
+                          sources.length, (System.nanoTime() - start) / 1_000_000, 100.0 * spritePixels / sourcePixels);
+    }
+}
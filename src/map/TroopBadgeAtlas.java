@@ -0,0 +1,205 @@
+package map;
+
+
+import troops.TroopFactory;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/*
+ * TroopBadgeAtlas keeps the troop badges drawn on the map (owner colored circle, troop icon, count below)
+ * pre-rendered in a few large images, so drawing a badge is a single image copy.
+ * A badge is keyed by owner color, troop type and count; the count is shown exactly, so each count is its own bucket.
+ * Cells are packed in rows on the atlas pages, when every page is full the atlas starts over.
+ * The fonts and their metrics are derived once. Only used from the event thread.
+ */
+
+
+public class TroopBadgeAtlas
+{
+    public static final int CIRCLE_SIZE = 30;
+    private static final int INNER_SIZE = CIRCLE_SIZE - 6;
+    private static final int ICON_SIZE = 20;
+    private static final int COUNT_OFFSET = CIRCLE_SIZE / 2 + 12; // count baseline below the badge center
+    private static final int MARGIN = 1; // room for the border stroke around the circle
+
+    private static final int PAGE_SIZE = 512;
+    private static final int MAX_PAGES = 4;
+
+    // contrast color weights
+    private static final float RED_WEIGHT = 0.3f;
+    private static final float GREEN_WEIGHT = 0.6f;
+    private static final float BLUE_WEIGHT = 0.1f;
+    private static final float BRIGHTNESS_THRESHOLD = 0.5f;
+    private static final float COLOR_SCALE = 255.0f;
+
+    private static final BasicStroke BORDER_STROKE = new BasicStroke(1.5f);
+
+    private final GraphicsConfiguration _configuration;
+    private final Font _letterFont;
+    private final Font _countFont;
+    private FontMetrics _letterMetrics;
+    private FontMetrics _countMetrics;
+
+    private final List<BufferedImage> _pages = new ArrayList<>();
+    private final Map<BadgeKey, Cell> _cells = new HashMap<>();
+    private int _rowX;
+    private int _rowY;
+    private int _rowHeight;
+
+
+    // ctor, the configuration may be null when the panel is not displayed yet
+    public TroopBadgeAtlas(Font font, GraphicsConfiguration configuration)
+    {
+        _configuration = configuration;
+        _letterFont = font.deriveFont(14f);
+        _countFont = font.deriveFont(12f);
+    }
+
+
+    // draws the badge centered on x, y with the count below it
+    public void drawBadge(Graphics2D g2d, Color ownerColor, String troopType, int count, int x, int y)
+    {
+        Cell cell = _cells.get(new BadgeKey(ownerColor.getRGB(), troopType, count));
+        if (cell == null) {cell = renderBadge(ownerColor, troopType, count);}
+
+        int left = x - cell.centerX;
+        int top = y - cell.centerY;
+        g2d.drawImage(_pages.get(cell.page), left, top, left + cell.width, top + cell.height,
+                      cell.x, cell.y, cell.x + cell.width, cell.y + cell.height, null);
+    }
+
+
+    public int getCellCount() {return _cells.size();}
+    public int getPageCount() {return _pages.size();}
+
+
+    // renders a badge into a free cell of the atlas
+    private Cell renderBadge(Color ownerColor, String troopType, int count)
+    {
+        if (_pages.isEmpty()) {addPage();}
+
+        String countText = String.valueOf(count);
+        int textWidth = _countMetrics.stringWidth(countText);
+        int width = Math.max(CIRCLE_SIZE + 2 * MARGIN, textWidth + 2 * MARGIN);
+        int centerX = width / 2;
+        int centerY = CIRCLE_SIZE / 2 + MARGIN;
+        int height = centerY + COUNT_OFFSET + _countMetrics.getDescent() + MARGIN;
+
+        Cell cell = allocate(width, height, centerX, centerY);
+        Graphics2D g2d = _pages.get(cell.page).createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.clipRect(cell.x, cell.y, cell.width, cell.height);
+        g2d.translate(cell.x + centerX, cell.y + centerY);
+
+        Color textColor = getContrastColor(ownerColor);
+
+        // outer circle, inner circle and border
+        g2d.setColor(ownerColor);
+        g2d.fillOval(-CIRCLE_SIZE/2, -CIRCLE_SIZE/2, CIRCLE_SIZE, CIRCLE_SIZE);
+        g2d.setColor(textColor);
+        g2d.fillOval(-INNER_SIZE/2, -INNER_SIZE/2, INNER_SIZE, INNER_SIZE);
+        g2d.setStroke(BORDER_STROKE);
+        g2d.drawOval(-CIRCLE_SIZE/2, -CIRCLE_SIZE/2, CIRCLE_SIZE, CIRCLE_SIZE);
+
+        // troop icon, or its first letter when there is no icon
+        BufferedImage troopIcon = TroopFactory.getTroopIcon(troopType);
+        if (troopIcon != null)
+        {
+            g2d.drawImage(troopIcon, -ICON_SIZE/2, -ICON_SIZE/2, ICON_SIZE, ICON_SIZE, null);
+        }
+        else
+        {
+            g2d.setColor(ownerColor.darker());
+            g2d.setFont(_letterFont);
+            String letter = troopType.substring(0, 1);
+            g2d.drawString(letter, -_letterMetrics.stringWidth(letter)/2, _letterMetrics.getHeight()/4);
+        }
+
+        // count
+        g2d.setColor(textColor);
+        g2d.setFont(_countFont);
+        g2d.drawString(countText, -textWidth/2, COUNT_OFFSET);
+        g2d.dispose();
+
+        _cells.put(new BadgeKey(ownerColor.getRGB(), troopType, count), cell);
+        return cell;
+    }
+
+
+    // finds room for a cell on the current row, a new row or a new page, starting over when the atlas is full
+    private Cell allocate(int width, int height, int centerX, int centerY)
+    {
+        if (_rowX + width > PAGE_SIZE)
+        {
+            _rowX = 0;
+            _rowY += _rowHeight;
+            _rowHeight = 0;
+        }
+        if (_rowY + height > PAGE_SIZE)
+        {
+            if (_pages.size() == MAX_PAGES)
+            {
+                System.out.println("Troop badge atlas full, clearing " + _cells.size() + " badges");
+                _pages.clear();
+                _cells.clear();
+            }
+            addPage();
+        }
+
+        Cell cell = new Cell(_pages.size() - 1, _rowX, _rowY, width, height, centerX, centerY);
+        _rowX += width;
+        _rowHeight = Math.max(_rowHeight, height);
+        return cell;
+    }
+
+
+    private void addPage()
+    {
+        BufferedImage page = _configuration != null
+            ? _configuration.createCompatibleImage(PAGE_SIZE, PAGE_SIZE, Transparency.TRANSLUCENT)
+            : new BufferedImage(PAGE_SIZE, PAGE_SIZE, BufferedImage.TYPE_INT_ARGB);
+
+        if (_countMetrics == null)
+        {
+            Graphics2D g2d = page.createGraphics();
+            _letterMetrics = g2d.getFontMetrics(_letterFont);
+            _countMetrics = g2d.getFontMetrics(_countFont);
+            g2d.dispose();
+        }
+
+        _pages.add(page);
+        _rowX = 0;
+        _rowY = 0;
+        _rowHeight = 0;
+    }
+
+
+    // returns a contrasting color for the given background color
+    private static Color getContrastColor(Color backgroundColor)
+    {
+        float brightness = (backgroundColor.getRed() * RED_WEIGHT +
+                           backgroundColor.getGreen() * GREEN_WEIGHT +
+                           backgroundColor.getBlue() * BLUE_WEIGHT) / COLOR_SCALE;
+
+        return brightness > BRIGHTNESS_THRESHOLD ? Color.BLACK : Color.WHITE;
+    }
+
+
+    private record BadgeKey(int ownerRgb, String troopType, int count) {}
+
+    private record Cell(int page, int x, int y, int width, int height, int centerX, int centerY) {}
+}
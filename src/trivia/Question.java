@@ -1,82 +1,179 @@
-package trivia;
-
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
-
-/*
- * Question class represents a trivia question with its text, correct answer, options, category, and difficulty level.
- */
-
-
-public class Question
-{
-    public enum Category
-    {
-        HISTORY_GEOGRAPHY("History and Geography"),
-        SPORT("Sport"),
-        LITERATURE_ART("Literature and Art"),
-        MOVIES_MUSIC("Movies and Music"),
-        SCIENCE("Science");
-
-        private final String _displayName;
-        Category(String displayName)
-        {
-            _displayName = displayName;
-        }
-        public String getDisplayName(){ return _displayName; }
-    }
-
-    private String _text;
-    private String _correctAnswer;
-    private List<String> _options;
-    private Category _category;
-    private int _difficulty;
-
-
-    // ctor
-    public Question(String text, String correctAnswer, List<String> wrongOptions, Category category, int difficulty)
-    {
-        _text = text;
-        _correctAnswer = correctAnswer;
-        _category = category;
-        _difficulty = difficulty;
-
-        _options = new ArrayList<> (wrongOptions);
-        _options.add(correctAnswer);
-        Collections.shuffle(_options);
-    }
-
-
-    // public getters
-    public String getText() {return _text;}
-    public String getCorrectAnswer() {return _correctAnswer;}
-    public Category getCategory() {return _category;}
-    public int getDifficulty() {return _difficulty;}
-    public List<String> getOptions() {return _options;}
-    public boolean checkAnswer(String selectedOption) {return _correctAnswer.equalsIgnoreCase(selectedOption.trim());}
-
-    // static method to get difficulty text based on difficulty level
-    public static String getDifficultyText(int difficulty, boolean includePoints) 
-    {
-        String diffText = switch (difficulty) 
-        {
-            case 1 -> "Too Easy";
-            case 2 -> "Easy";
-            case 3 -> "Medium";
-            case 4 -> "Hard";
-            case 5 -> "Impossible";
-            default -> "Medium";
-        };
-        
-        if (includePoints) 
-        {
-            int points = difficulty * 100;
-            return diffText + " (" + points + " points)";
-        }
-        
-        return diffText;
-    }
+package trivia;
+
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/*
+ * Question class represents a trivia question with its text, correct answer, options, category, and difficulty level.
+ */
+
+
+public class Question
+{
+    public enum Category
+    {
+        HISTORY_GEOGRAPHY("History and Geography"),
+        SPORT("Sport"),
+        LITERATURE_ART("Literature and Art"),
+        MOVIES_MUSIC("Movies and Music"),
+        SCIENCE("Science");
+
+        private final String _displayName;
+        Category(String displayName)
+        {
+            _displayName = displayName;
+        }
+        public String getDisplayName(){ return _displayName; }
+    }
+
+    private String _text;
+    private String[] _options;
+    private byte _correctIndex;
+    private Category _category;
+    private int _difficulty;
+
+    // questions read from a QuestionPack keep only their record until the strings are needed
+    private QuestionPack _pack;
+    private int _record;
+
+
+    // ctor
+    public Question(String text, String correctAnswer, List<String> wrongOptions, Category category, int difficulty)
+    {
+        _category = category;
+        _difficulty = difficulty;
+
+        String[] options = new String[wrongOptions.size() + 1];
+        options[0] = correctAnswer;
+        for (int i = 0; i < wrongOptions.size(); i++) 
+        {
+            options[i + 1] = wrongOptions.get(i);
+        }
+        setContent(text, options);
+    }
+
+
+    // ctor for a thin view over a packed record, nothing is decoded yet
+    Question(QuestionPack pack, int record, Category category, int difficulty)
+    {
+        _pack = pack;
+        _record = record;
+        _category = category;
+        _difficulty = difficulty;
+    }
+
+
+    // options come with the correct answer first, they get shuffled right away
+    private void setContent(String text, String[] options)
+    {
+        if (options.length > Byte.MAX_VALUE) 
+        {
+            throw new IllegalArgumentException("Too many options for question: " + text);
+        }
+
+        _text = text;
+        _options = options;
+        _correctIndex = 0;
+        permuteOptions(ThreadLocalRandom.current());
+    }
+
+
+    // decodes the UTF-8 strings of a packed question the first time they are read
+    private synchronized void ensureDecoded()
+    {
+        if (_pack == null) {return;}
+
+        String[] strings;
+        try 
+        {
+            strings = _pack.readStrings(_record);
+        } 
+        catch (IOException e) 
+        {
+            throw new UncheckedIOException(e);
+        }
+        _pack = null;
+        setContent(strings[0], Arrays.copyOfRange(strings, 1, strings.length));
+    }
+
+
+    // reorders the options for a new presentation, so the position of the answer can't be remembered
+    public void shuffleOptions(Random random)
+    {
+        ensureDecoded();
+        permuteOptions(random);
+    }
+    public void shuffleOptions() {shuffleOptions(ThreadLocalRandom.current());}
+
+
+    // in-place Fisher-Yates over the options array, the correct index follows its option
+    private void permuteOptions(Random random)
+    {
+        for (int i = _options.length - 1; i > 0; i--) 
+        {
+            int j = random.nextInt(i + 1);
+            String option = _options[i];
+            _options[i] = _options[j];
+            _options[j] = option;
+
+            if (_correctIndex == i) {_correctIndex = (byte) j;}
+            else if (_correctIndex == j) {_correctIndex = (byte) i;}
+        }
+    }
+
+
+    // public getters
+    public String getText() {ensureDecoded(); return _text;}
+    public String getCorrectAnswer() {ensureDecoded(); return _options[_correctIndex];}
+    public Category getCategory() {return _category;}
+    public int getDifficulty() {return _difficulty;}
+    public boolean checkAnswer(String selectedOption) {return getCorrectAnswer().equalsIgnoreCase(selectedOption.trim());}
+
+    // options in the current presentation order
+    public int getOptionCount() {ensureDecoded(); return _options.length;}
+    public String getOption(int index) {ensureDecoded(); return _options[index];}
+    public int getCorrectOptionIndex() {ensureDecoded(); return _correctIndex;}
+    public boolean isCorrectOption(int index) {return index == getCorrectOptionIndex();}
+
+    // options without the correct answer
+    public List<String> getWrongOptions()
+    {
+        ensureDecoded();
+        List<String> wrongOptions = new ArrayList<>(_options.length - 1);
+        for (int i = 0; i < _options.length; i++) 
+        {
+            if (i != _correctIndex) {wrongOptions.add(_options[i]);}
+        }
+        return wrongOptions;
+    }
+
+    // static method to get difficulty text based on difficulty level
+    public static String getDifficultyText(int difficulty, boolean includePoints) 
+    {
+        String diffText = switch (difficulty) 
+        {
+            case 1 -> "Too Easy";
+            case 2 -> "Easy";
+            case 3 -> "Medium";
+            case 4 -> "Hard";
+            case 5 -> "Impossible";
+            default -> "Medium";
+        };
+        
+        if (includePoints) 
+        {
+            int points = difficulty * 100;
+            return diffText + " (" + points + " points)";
+        }
+        
+        return diffText;
+    }
 }
\ No newline at end of file
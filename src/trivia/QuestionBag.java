@@ -0,0 +1,57 @@
+package trivia;
+
+
+import java.util.random.RandomGenerator;
+
+
+/*
+ * QuestionBag hands out the questions of a single category and difficulty without repeats,
+ * a question comes back only after every other question of the bag has been drawn.
+ * A bag belongs to one match and is not thread-safe, every QuestionDatabase has its own bags
+ */
+
+
+public class QuestionBag
+{
+    private final Question[] _questions;
+    private int _drawnCount;
+
+
+    // ctor, the bag works on its own copy so the shared bucket is never reordered
+    public QuestionBag(Question[] questions)
+    {
+        _questions = questions.clone();
+        _drawnCount = 0;
+    }
+
+
+    // draws the next unseen question, the bag is refilled when it runs empty
+    public Question draw(RandomGenerator random)
+    {
+        int size = _questions.length;
+        if (size == 0) {return null;}
+
+        int first = _drawnCount;
+        if (first == size) 
+        {
+            // the last question of the previous round sits at the end, it can't open the new one
+            _drawnCount = 0;
+            first = 0;
+            size = _questions.length > 1 ? _questions.length - 1 : _questions.length;
+        }
+
+        // one Fisher-Yates step: swaps a random unseen question into the drawn prefix
+        int picked = first + random.nextInt(size - first);
+        Question question = _questions[picked];
+        _questions[picked] = _questions[first];
+        _questions[first] = question;
+        _drawnCount++;
+
+        return question;
+    }
+
+
+    // getters
+    public int getRemainingCount() {return _questions.length - _drawnCount;}
+    public int getSize() {return _questions.length;}
+}
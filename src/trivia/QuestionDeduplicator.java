@@ -0,0 +1,387 @@
+package trivia;
+
+
+import java.io.IOException;
+
+import java.text.Normalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+
+/*
+ * QuestionDeduplicator looks for exact and near duplicate questions in the banks.
+ * Each question is normalized (case, accents, punctuation) together with its correct answer,
+ * identical texts are grouped directly, the remaining ones are compared through MinHash signatures
+ * of their character shingles and LSH banding, so only the questions sharing a band are verified.
+ * A candidate pair is a duplicate when the correct answers are the same and the question texts share
+ * enough word pairs: character shingles can't tell "derivative of x^2" from "derivative of sin x",
+ * the many questions written on one template are only told apart by their words and their answers.
+ * usage: java trivia.QuestionDeduplicator [<bank.txt> ...]   (no arguments: the banks of QuestionDatabase)
+ */
+
+
+public class QuestionDeduplicator
+{
+    private static final int SHINGLE_SIZE = 4;
+    private static final int BANDS = 20;
+    private static final int ROWS_PER_BAND = 5;
+    private static final int SIGNATURE_SIZE = BANDS * ROWS_PER_BAND;
+    private static final double SIMILARITY_THRESHOLD = 0.5;
+    private static final long HASH_SEED = 0x5DEECE66DL;
+
+    private final long[] _hashMultipliers;
+    private final long[] _hashOffsets;
+
+
+    public QuestionDeduplicator()
+    {
+        _hashMultipliers = new long[SIGNATURE_SIZE];
+        _hashOffsets = new long[SIGNATURE_SIZE];
+
+        SplittableRandom random = new SplittableRandom(HASH_SEED);
+        for (int k = 0; k < SIGNATURE_SIZE; k++)
+        {
+            _hashMultipliers[k] = random.nextLong() | 1L;
+            _hashOffsets[k] = random.nextLong();
+        }
+    }
+
+
+    public static void main(String[] args)
+    {
+        try
+        {
+            long start = System.nanoTime();
+            List<Question> questions = args.length == 0 ? loadDatabase() : loadBanks(args);
+            long loaded = System.nanoTime();
+
+            List<int[]> groups = new QuestionDeduplicator().findDuplicateGroups(questions);
+            long searched = System.nanoTime();
+
+            printReport(questions, groups);
+            System.out.printf("%d questions loaded in %d ms, %d duplicate groups found in %d ms%n",
+                              questions.size(), (loaded - start) / 1_000_000,
+                              groups.size(), (searched - loaded) / 1_000_000);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error reading question banks: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+
+    private static List<Question> loadDatabase()
+    {
+        QuestionDatabase database = new QuestionDatabase();
+        List<Question> questions = new ArrayList<>();
+        for (Question.Category category : Question.Category.values())
+        {
+            questions.addAll(database.getQuestions(category));
+        }
+        return questions;
+    }
+
+
+    private static List<Question> loadBanks(String[] paths) throws IOException
+    {
+        List<Question> questions = new ArrayList<>();
+        for (String path : paths)
+        {
+            try (QuestionReader reader = QuestionReader.open(path))
+            {
+                while (reader.hasNext())
+                {
+                    questions.add(reader.next());
+                }
+            }
+        }
+        return questions;
+    }
+
+
+    // groups of question indexes that repeat the same fact, each group sorted and of size two or more
+    public List<int[]> findDuplicateGroups(List<Question> questions)
+    {
+        String[] texts = questions.parallelStream().map(question -> normalize(question.getText())).toArray(String[]::new);
+        String[] answers = questions.parallelStream().map(question -> normalize(question.getCorrectAnswer())).toArray(String[]::new);
+        String[] normalized = IntStream.range(0, texts.length).mapToObj(i -> texts[i] + " " + answers[i]).toArray(String[]::new);
+
+        // exact duplicates share the normalized text, only one representative goes through MinHash
+        Map<String, Integer> firstIndex = new ConcurrentHashMap<>();
+        IntStream.range(0, normalized.length).parallel().forEach(i -> firstIndex.merge(normalized[i], i, Math::min));
+        int[] representatives = firstIndex.values().stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        int[][] signatures = Arrays.stream(representatives).parallel()
+            .mapToObj(i -> computeSignature(normalized[i]))
+            .toArray(int[][]::new);
+
+        long[] similarPairs = IntStream.range(0, BANDS).parallel()
+            .mapToObj(band -> findCandidatePairs(signatures, band))
+            .flatMapToLong(Arrays::stream)
+            .distinct()
+            .filter(pair -> isDuplicate(texts, answers, representatives[(int) (pair >>> 32)], representatives[(int) pair]))
+            .toArray();
+
+        int[] parent = new int[normalized.length];
+        for (int i = 0; i < parent.length; i++)
+        {
+            parent[i] = i;
+        }
+        for (int i = 0; i < normalized.length; i++)
+        {
+            union(parent, i, firstIndex.get(normalized[i]));
+        }
+        for (long pair : similarPairs)
+        {
+            union(parent, representatives[(int) (pair >>> 32)], representatives[(int) pair]);
+        }
+
+        return collectGroups(parent);
+    }
+
+
+    // lowercase letters and digits only, accents removed and whitespace collapsed
+    static String normalize(String text)
+    {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder builder = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < decomposed.length(); i++)
+        {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK)
+            {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c))
+            {
+                if (pendingSpace && builder.length() > 0)
+                {
+                    builder.append(' ');
+                }
+                builder.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            }
+            else
+            {
+                pendingSpace = true;
+            }
+        }
+        return builder.toString();
+    }
+
+
+    // hashes of the character shingles of a normalized text, sorted and without repetitions
+    static int[] shingles(String text)
+    {
+        if (text.length() <= SHINGLE_SIZE)
+        {
+            return new int[] { text.hashCode() };
+        }
+
+        int[] hashes = new int[text.length() - SHINGLE_SIZE + 1];
+        for (int start = 0; start < hashes.length; start++)
+        {
+            int hash = 0;
+            for (int i = start; i < start + SHINGLE_SIZE; i++)
+            {
+                hash = 31 * hash + text.charAt(i);
+            }
+            hashes[start] = hash;
+        }
+        return Arrays.stream(hashes).sorted().distinct().toArray();
+    }
+
+
+    private int[] computeSignature(String text)
+    {
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (int shingle : shingles(text))
+        {
+            for (int k = 0; k < SIGNATURE_SIZE; k++)
+            {
+                int value = (int) ((_hashMultipliers[k] * shingle + _hashOffsets[k]) >>> 33);
+                if (value < signature[k])
+                {
+                    signature[k] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+
+    // pairs (i << 32 | j, i < j) of signatures whose rows agree in the given band
+    private static long[] findCandidatePairs(int[][] signatures, int band)
+    {
+        // band hash in the upper half, signature index in the lower half, sorting puts each bucket together
+        long[] keys = new long[signatures.length];
+        for (int i = 0; i < signatures.length; i++)
+        {
+            int hash = 1;
+            for (int row = band * ROWS_PER_BAND; row < (band + 1) * ROWS_PER_BAND; row++)
+            {
+                hash = 31 * hash + signatures[i][row];
+            }
+            keys[i] = ((long) hash << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        List<Long> pairs = new ArrayList<>();
+        int bucketStart = 0;
+        for (int i = 1; i <= keys.length; i++)
+        {
+            if (i < keys.length && (keys[i] >>> 32) == (keys[bucketStart] >>> 32))
+            {
+                continue;
+            }
+            for (int a = bucketStart; a < i; a++)
+            {
+                for (int b = a + 1; b < i; b++)
+                {
+                    long first = keys[a] & 0xFFFFFFFFL;
+                    long second = keys[b] & 0xFFFFFFFFL;
+                    pairs.add(Math.min(first, second) << 32 | Math.max(first, second));
+                }
+            }
+            bucketStart = i;
+        }
+        return pairs.stream().mapToLong(Long::longValue).toArray();
+    }
+
+
+    // hashes of the pairs of consecutive words of a normalized text, sorted and without repetitions
+    static int[] wordShingles(String text)
+    {
+        String[] words = text.split(" ");
+        if (words.length == 1)
+        {
+            return new int[] { text.hashCode() };
+        }
+
+        int[] hashes = new int[words.length - 1];
+        for (int i = 0; i < hashes.length; i++)
+        {
+            hashes[i] = 31 * words[i].hashCode() + words[i + 1].hashCode();
+        }
+        return Arrays.stream(hashes).sorted().distinct().toArray();
+    }
+
+
+    // verification of an LSH candidate: same correct answer and similar question wording
+    private static boolean isDuplicate(String[] texts, String[] answers, int first, int second)
+    {
+        return answers[first].equals(answers[second])
+            && jaccard(wordShingles(texts[first]), wordShingles(texts[second])) >= SIMILARITY_THRESHOLD;
+    }
+
+
+    // exact Jaccard similarity of two sorted shingle sets, only computed for the LSH candidates
+    static double jaccard(int[] a, int[] b)
+    {
+        int common = 0;
+
+        for (int i = 0, j = 0; i < a.length && j < b.length;)
+        {
+            if (a[i] == b[j])
+            {
+                common++;
+                i++;
+                j++;
+            }
+            else if (a[i] < b[j])
+            {
+                i++;
+            }
+            else
+            {
+                j++;
+            }
+        }
+        return (double) common / (a.length + b.length - common);
+    }
+
+
+    private static int find(int[] parent, int i)
+    {
+        while (parent[i] != i)
+        {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+
+    private static void union(int[] parent, int a, int b)
+    {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB)
+        {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+
+    private static List<int[]> collectGroups(int[] parent)
+    {
+        Map<Integer, List<Integer>> members = new LinkedHashMap<>();
+        for (int i = 0; i < parent.length; i++)
+        {
+            members.computeIfAbsent(find(parent, i), root -> new ArrayList<>()).add(i);
+        }
+
+        List<int[]> groups = new ArrayList<>();
+        for (List<Integer> group : members.values())
+        {
+            if (group.size() > 1)
+            {
+                groups.add(group.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+        return groups;
+    }
+
+
+    // each group is listed under the category of its first question, '=' marks exact copies of it
+    private static void printReport(List<Question> questions, List<int[]> groups)
+    {
+        Map<Question.Category, List<int[]>> byCategory = new EnumMap<>(Question.Category.class);
+        for (int[] group : groups)
+        {
+            byCategory.computeIfAbsent(questions.get(group[0]).getCategory(), c -> new ArrayList<>()).add(group);
+        }
+
+        for (Map.Entry<Question.Category, List<int[]>> entry : byCategory.entrySet())
+        {
+            System.out.println("== " + entry.getKey().getDisplayName() + " (" + entry.getValue().size() + " groups) ==");
+            for (int[] group : entry.getValue())
+            {
+                Question first = questions.get(group[0]);
+                String firstText = normalize(first.getText() + " " + first.getCorrectAnswer());
+                for (int i : group)
+                {
+                    Question question = questions.get(i);
+                    String text = normalize(question.getText() + " " + question.getCorrectAnswer());
+                    String mark = i == group[0] ? " " : text.equals(firstText) ? "=" : "~";
+                    System.out.printf("  %s [%s d%d] %s -> %s%n", mark, question.getCategory(), question.getDifficulty(),
+                                      question.getText(), question.getCorrectAnswer());
+                }
+                System.out.println();
+            }
+        }
+    }
+}
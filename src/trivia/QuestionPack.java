@@ -0,0 +1,133 @@
+package trivia;
+
+
+import java.io.IOException;
+
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/*
+ * QuestionPack is a read-only view over a packed binary question bank mapped in memory.
+ * Only the record table is touched when the pack is opened, question strings stay
+ * encoded in the mapping until a Question asks for them.
+ *
+ * Layout (big endian):
+ *   header:  magic "TCQP" | version u16 | reserved u16 | record count i32 | table offset i64
+ *   strings: for each record, text, correct answer and wrong options as (u16 length, UTF-8 bytes)
+ *   table:   for each record, category u8 | difficulty u8 | option count u8 | reserved u8 | strings offset i32
+ */
+
+
+public class QuestionPack
+{
+    static final int MAGIC = 0x54435150; // "TCQP"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 20;
+    static final int TABLE_ENTRY_SIZE = 8;
+    private static final Question.Category[] CATEGORIES = Question.Category.values();
+
+    private final MappedByteBuffer _buffer;
+    private final String _sourceName;
+    private final int _recordCount;
+    private final int _tableOffset;
+
+
+    // ctor
+    private QuestionPack(MappedByteBuffer buffer, String sourceName) throws IOException
+    {
+        _buffer = buffer;
+        _sourceName = sourceName;
+
+        if (_buffer.capacity() < HEADER_SIZE || _buffer.getInt(0) != MAGIC) 
+        {
+            throw new IOException(sourceName + " is not a question pack");
+        }
+        if (_buffer.getShort(4) != VERSION) 
+        {
+            throw new IOException(sourceName + " has unsupported pack version " + _buffer.getShort(4));
+        }
+
+        _recordCount = _buffer.getInt(8);
+        long tableOffset = _buffer.getLong(12);
+        if (_recordCount < 0 || tableOffset < HEADER_SIZE || 
+            tableOffset + (long) _recordCount * TABLE_ENTRY_SIZE > _buffer.capacity()) 
+        {
+            throw new IOException(sourceName + " has a corrupted record table");
+        }
+        _tableOffset = (int) tableOffset;
+    }
+
+
+    // maps a pack file, the mapping stays valid after the channel is closed
+    public static QuestionPack open(String path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) 
+        {
+            if (channel.size() > Integer.MAX_VALUE) 
+            {
+                throw new IOException(path + " is too large to be mapped");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new QuestionPack(buffer, path);
+        }
+    }
+
+
+    // record table getters, they never decode any string
+    public int getRecordCount() {return _recordCount;}
+    public Question.Category getCategory(int record) {return CATEGORIES[_buffer.get(entry(record)) & 0xFF];}
+    public int getDifficulty(int record) {return _buffer.get(entry(record) + 1) & 0xFF;}
+    public String getSourceName() {return _sourceName;}
+
+
+    // creates the thin question view of a record
+    public Question getQuestion(int record)
+    {
+        return new Question(this, record, getCategory(record), getDifficulty(record));
+    }
+
+
+    // decodes text, correct answer and wrong options of a record, in this order;
+    // the offsets and lengths come from the file, they must stay between the header and the table
+    String[] readStrings(int record) throws IOException
+    {
+        int entry = entry(record);
+        int optionCount = _buffer.get(entry + 2) & 0xFF;
+        int position = _buffer.getInt(entry + 4);
+
+        String[] strings = new String[2 + optionCount];
+        for (int i = 0; i < strings.length; i++) 
+        {
+            if (position < HEADER_SIZE || position > _tableOffset - 2) 
+            {
+                throw new IOException(_sourceName + " has a corrupted string offset in record " + record);
+            }
+            int length = _buffer.getShort(position) & 0xFFFF;
+            if (length > _tableOffset - position - 2) 
+            {
+                throw new IOException(_sourceName + " has a corrupted string length in record " + record);
+            }
+            byte[] bytes = new byte[length];
+            _buffer.get(position + 2, bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            position += 2 + length;
+        }
+        return strings;
+    }
+
+
+    // absolute position of a record in the table, absolute reads keep the view thread safe
+    private int entry(int record)
+    {
+        if (record < 0 || record >= _recordCount) 
+        {
+            throw new IndexOutOfBoundsException("Record " + record + " not in " + _sourceName);
+        }
+        return _tableOffset + record * TABLE_ENTRY_SIZE;
+    }
+
+}
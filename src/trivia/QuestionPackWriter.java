@@ -0,0 +1,138 @@
+package trivia;
+
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+/*
+ * QuestionPackWriter converts text question banks into the binary format read by QuestionPack.
+ * The strings are streamed to disk as the banks are read, only the record table is kept in memory.
+ * usage: java trivia.QuestionPackWriter <output.pack> <bank.txt> [<bank.txt> ...]
+ */
+
+
+public class QuestionPackWriter
+{
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final int MAX_OPTIONS = 0xFF;
+
+
+    public static void main(String[] args)
+    {
+        if (args.length < 2) 
+        {
+            System.err.println("usage: java trivia.QuestionPackWriter <output.pack> <bank.txt> [<bank.txt> ...]");
+            System.exit(1);
+        }
+
+        try 
+        {
+            long start = System.nanoTime();
+            int written = write(args[0], Arrays.copyOfRange(args, 1, args.length));
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("Packed " + written + " questions into " + args[0] + " in " + elapsedMs + " ms");
+        } 
+        catch (IOException e) 
+        {
+            System.err.println("Cannot write question pack: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+
+    // writes every question of the banks to a pack file, returns the number of records
+    public static int write(String packPath, String... bankPaths) throws IOException
+    {
+        // category, difficulty and option count packed in one int, plus the strings offset
+        int[] recordInfo = new int[1024];
+        int[] recordOffsets = new int[1024];
+        int recordCount = 0;
+        long tableOffset;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(packPath), 1 << 16))) 
+        {
+            // header placeholder, completed once the table position is known
+            out.write(new byte[QuestionPack.HEADER_SIZE]);
+
+            for (String bankPath : bankPaths) 
+            {
+                try (QuestionReader reader = QuestionReader.open(bankPath)) 
+                {
+                    while (reader.hasNext()) 
+                    {
+                        Question question = reader.next();
+                        List<String> wrongOptions = question.getWrongOptions();
+                        if (wrongOptions.size() > MAX_OPTIONS) 
+                        {
+                            throw new IOException("Too many options in question: " + question.getText());
+                        }
+
+                        if (recordCount == recordInfo.length) 
+                        {
+                            recordInfo = Arrays.copyOf(recordInfo, recordCount * 2);
+                            recordOffsets = Arrays.copyOf(recordOffsets, recordCount * 2);
+                        }
+                        recordInfo[recordCount] = question.getCategory().ordinal() << 16 
+                                                | question.getDifficulty() << 8 
+                                                | wrongOptions.size();
+                        recordOffsets[recordCount] = out.size();
+                        recordCount++;
+
+                        writeString(out, question.getText());
+                        writeString(out, question.getCorrectAnswer());
+                        for (String option : wrongOptions) 
+                        {
+                            writeString(out, option);
+                        }
+                        
+                        if (out.size() == Integer.MAX_VALUE) 
+                        {
+                            throw new IOException("Question pack larger than 2 GB");
+                        }
+                    }
+                }
+            }
+
+            tableOffset = out.size();
+            for (int i = 0; i < recordCount; i++) 
+            {
+                out.writeByte(recordInfo[i] >>> 16);
+                out.writeByte(recordInfo[i] >>> 8);
+                out.writeByte(recordInfo[i]);
+                out.writeByte(0);
+                out.writeInt(recordOffsets[i]);
+            }
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(packPath, "rw")) 
+        {
+            file.writeInt(QuestionPack.MAGIC);
+            file.writeShort(QuestionPack.VERSION);
+            file.writeShort(0);
+            file.writeInt(recordCount);
+            file.writeLong(tableOffset);
+        }
+        return recordCount;
+    }
+
+
+    private static void writeString(DataOutputStream out, String value) throws IOException
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) 
+        {
+            throw new IOException("String too long for a question pack: " + value.substring(0, 40) + "...");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,137 @@
+package trivia;
+
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/*
+ * QuestionReader streams questions out of a question bank file, one record at a time.
+ * Every non-empty line that doesn't start with '#' is a record:
+ * category|difficulty|question|correct answer|wrong option|wrong option|...
+ * Only the current line is held in memory, so bank size doesn't matter.
+ */
+
+
+public class QuestionReader implements Closeable
+{
+    private static final char SEPARATOR = '|';
+    private static final char COMMENT = '#';
+    private static final int MIN_FIELDS = 5;
+
+    private final BufferedReader _reader;
+    private final String _sourceName;
+    private final List<String> _fields = new ArrayList<>(8);
+    private Question _next;
+    private int _lineNumber;
+
+
+    // ctor
+    public QuestionReader(Reader source, String sourceName)
+    {
+        _reader = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source);
+        _sourceName = sourceName;
+        _lineNumber = 0;
+    }
+
+
+    // opens a question bank file encoded in UTF-8
+    public static QuestionReader open(String path) throws IOException
+    {
+        Reader source = new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8);
+        return new QuestionReader(source, path);
+    }
+
+
+    // advances to the next valid record, malformed lines are reported and skipped
+    public boolean hasNext() throws IOException
+    {
+        while (_next == null)
+        {
+            String line = _reader.readLine();
+            if (line == null) {return false;}
+            _lineNumber++;
+
+            if (line.isBlank() || line.charAt(0) == COMMENT) {continue;}
+
+            _next = parseRecord(line);
+        }
+        return true;
+    }
+
+
+    // returns the current record and moves past it
+    public Question next() throws IOException
+    {
+        if (!hasNext()) {return null;}
+
+        Question question = _next;
+        _next = null;
+        return question;
+    }
+
+
+    // converts a single line into a question, null if the line is not a valid record
+    private Question parseRecord(String line)
+    {
+        splitFields(line);
+        if (_fields.size() < MIN_FIELDS) 
+        {
+            reportInvalidRecord("expected at least " + MIN_FIELDS + " fields but found " + _fields.size());
+            return null;
+        }
+
+        Question.Category category;
+        int difficulty;
+        try 
+        {
+            category = Question.Category.valueOf(_fields.get(0));
+            difficulty = Integer.parseInt(_fields.get(1));
+        } 
+        catch (IllegalArgumentException e) 
+        {
+            reportInvalidRecord("bad category or difficulty");
+            return null;
+        }
+
+        List<String> wrongOptions = new ArrayList<>(_fields.subList(4, _fields.size()));
+        return new Question(_fields.get(2), _fields.get(3), wrongOptions, category, difficulty);
+    }
+
+
+    // splits the line on the separator without regular expressions
+    private void splitFields(String line)
+    {
+        _fields.clear();
+        int start = 0;
+        int end;
+        while ((end = line.indexOf(SEPARATOR, start)) >= 0)
+        {
+            _fields.add(line.substring(start, end).trim());
+            start = end + 1;
+        }
+        _fields.add(line.substring(start).trim());
+    }
+
+
+    private void reportInvalidRecord(String reason)
+    {
+        System.err.println("Skipping question at " + _sourceName + ":" + _lineNumber + " (" + reason + ")");
+    }
+
+
+    @Override
+    public void close() throws IOException
+    {
+        _reader.close();
+    }
+}
@@ -0,0 +1,343 @@
+package trivia;
+
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+
+/*
+ * QuestionSearchIndex is an in-memory inverted index over the text and the options of the questions.
+ * Words are normalized as in QuestionDeduplicator, the terms are kept sorted so a prefix query
+ * is a binary search followed by a scan of the neighbouring terms.
+ * A query is a list of words that must all appear, a word ending with '*' matches as a prefix.
+ * A query word goes through the same tokenizer as the indexed text, so "Earth's" looks up "earth" and "s".
+ * usage: java trivia.QuestionSearchIndex [<query> ...]   (no arguments: one query per line from stdin)
+ *        java trivia.QuestionSearchIndex --check      (checks punctuated queries against their tokens)
+ */
+
+
+public class QuestionSearchIndex
+{
+    private static final int CHUNK_SIZE = 4096;
+
+    private final List<Question> _questions;
+    private final String[] _terms;
+    private final int[][] _postings;
+
+
+    // the chunks are indexed in parallel and merged in order, so every posting list stays sorted
+    public QuestionSearchIndex(List<Question> questions)
+    {
+        _questions = List.copyOf(questions);
+
+        int chunkCount = (_questions.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<Map<String, PostingList>> chunks = IntStream.range(0, chunkCount).parallel()
+            .mapToObj(this::indexChunk)
+            .toList();
+
+        Map<String, PostingList> merged = new HashMap<>();
+        for (Map<String, PostingList> chunk : chunks)
+        {
+            chunk.forEach((term, postings) -> merged.computeIfAbsent(term, t -> new PostingList()).addAll(postings));
+        }
+
+        _terms = merged.keySet().toArray(new String[0]);
+        Arrays.parallelSort(_terms);
+        _postings = new int[_terms.length][];
+        for (int t = 0; t < _terms.length; t++)
+        {
+            _postings[t] = merged.get(_terms[t]).toArray();
+        }
+    }
+
+
+    private Map<String, PostingList> indexChunk(int chunk)
+    {
+        Map<String, PostingList> index = new HashMap<>();
+        int end = Math.min(_questions.size(), (chunk + 1) * CHUNK_SIZE);
+
+        for (int id = chunk * CHUNK_SIZE; id < end; id++)
+        {
+            Question question = _questions.get(id);
+            StringBuilder content = new StringBuilder(question.getText());
+            for (int i = 0; i < question.getOptionCount(); i++)
+            {
+                content.append(' ').append(question.getOption(i));
+            }
+
+            for (String term : tokenize(content.toString()))
+            {
+                index.computeIfAbsent(term, t -> new PostingList()).addOnce(id);
+            }
+        }
+        return index;
+    }
+
+
+    private static String[] tokenize(String text)
+    {
+        String normalized = QuestionDeduplicator.normalize(text);
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+
+
+    public int getQuestionCount() {return _questions.size();}
+    public int getTermCount() {return _terms.length;}
+
+
+    // questions containing the exact word
+    public List<Question> findTerm(String word)
+    {
+        int[] postings = wordPostings(word, false);
+        return toQuestions(postings == null ? new int[0] : postings);
+    }
+
+
+    // questions containing a word that starts with the prefix
+    public List<Question> findPrefix(String prefix)
+    {
+        int[] postings = wordPostings(prefix, true);
+        return toQuestions(postings == null ? new int[0] : postings);
+    }
+
+
+    // questions matching every word of the query, a trailing '*' makes a word a prefix
+    public List<Question> search(String query)
+    {
+        int[] result = null;
+
+        for (String word : query.trim().split("\\s+"))
+        {
+            int[] postings = wordPostings(word, word.endsWith("*"));
+            if (postings == null)
+            {
+                continue;
+            }
+
+            result = result == null ? postings : intersect(result, postings);
+            if (result.length == 0)
+            {
+                break;
+            }
+        }
+        return toQuestions(result == null ? new int[0] : result);
+    }
+
+
+    // a word can normalize to several terms ("earth's", "well-known"), the questions must hold them all;
+    // with prefix only the last term is a prefix, null when the word has no term at all
+    private int[] wordPostings(String word, boolean prefix)
+    {
+        String[] terms = tokenize(word);
+        if (terms.length == 0)
+        {
+            return null;
+        }
+
+        int[] result = null;
+        for (int t = 0; t < terms.length; t++)
+        {
+            int[] postings = prefix && t == terms.length - 1 ? prefixPostings(terms[t]) : termPostings(terms[t]);
+            result = result == null ? postings : intersect(result, postings);
+            if (result.length == 0)
+            {
+                break;
+            }
+        }
+        return result;
+    }
+
+
+    private int[] termPostings(String term)
+    {
+        int position = Arrays.binarySearch(_terms, term);
+        return position >= 0 ? _postings[position] : new int[0];
+    }
+
+
+    private int[] prefixPostings(String prefix)
+    {
+        if (prefix.isEmpty())
+        {
+            return new int[0];
+        }
+
+        int position = Arrays.binarySearch(_terms, prefix);
+        if (position < 0)
+        {
+            position = -position - 1;
+        }
+
+        int end = position;
+        while (end < _terms.length && _terms[end].startsWith(prefix))
+        {
+            end++;
+        }
+
+        if (end - position == 1)
+        {
+            return _postings[position];
+        }
+        return IntStream.range(position, end)
+            .flatMap(t -> Arrays.stream(_postings[t]))
+            .sorted()
+            .distinct()
+            .toArray();
+    }
+
+
+    private static int[] intersect(int[] a, int[] b)
+    {
+        int[] common = new int[Math.min(a.length, b.length)];
+        int count = 0;
+
+        for (int i = 0, j = 0; i < a.length && j < b.length;)
+        {
+            if (a[i] == b[j])
+            {
+                common[count++] = a[i];
+                i++;
+                j++;
+            }
+            else if (a[i] < b[j])
+            {
+                i++;
+            }
+            else
+            {
+                j++;
+            }
+        }
+        return Arrays.copyOf(common, count);
+    }
+
+
+    private List<Question> toQuestions(int[] ids)
+    {
+        List<Question> result = new ArrayList<>(ids.length);
+        for (int id : ids)
+        {
+            result.add(_questions.get(id));
+        }
+        return result;
+    }
+
+
+    // growable sorted list of question ids
+    private static class PostingList
+    {
+        private int[] _ids = new int[4];
+        private int _size;
+
+        // ids arrive in increasing order, a word repeated inside a question is stored once
+        void addOnce(int id)
+        {
+            if (_size > 0 && _ids[_size - 1] == id)
+            {
+                return;
+            }
+            if (_size == _ids.length)
+            {
+                _ids = Arrays.copyOf(_ids, _size * 2);
+            }
+            _ids[_size++] = id;
+        }
+
+        void addAll(PostingList other)
+        {
+            if (_size + other._size > _ids.length)
+            {
+                _ids = Arrays.copyOf(_ids, Math.max(_ids.length * 2, _size + other._size));
+            }
+            System.arraycopy(other._ids, 0, _ids, _size, other._size);
+            _size += other._size;
+        }
+
+        int[] toArray() {return Arrays.copyOf(_ids, _size);}
+    }
+
+
+    public static void main(String[] args)
+    {
+        QuestionDatabase database = new QuestionDatabase();
+        long start = System.nanoTime();
+        QuestionSearchIndex index = database.getSearchIndex();
+        System.out.printf("Indexed %d questions, %d terms in %d ms%n",
+                          index.getQuestionCount(), index.getTermCount(), (System.nanoTime() - start) / 1_000_000);
+
+        if (args.length == 1 && args[0].equals("--check"))
+        {
+            System.exit(check(index) ? 0 : 1);
+        }
+
+        if (args.length > 0)
+        {
+            for (String query : args)
+            {
+                printResults(index, query);
+            }
+            return;
+        }
+
+        try (BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)))
+        {
+            String query;
+            while ((query = input.readLine()) != null)
+            {
+                printResults(index, query);
+            }
+        }
+        catch (IOException e)
+        {
+            System.err.println("Error reading queries: " + e.getMessage());
+        }
+    }
+
+
+    // a punctuated word must find what its tokens find, and an apostrophe query must find something
+    private static boolean check(QuestionSearchIndex index)
+    {
+        String[][] cases = {{"Earth's", "earth s"}, {"EARTH'S", "earth s"}, {"Earth's*", "earth s*"},
+                            {"well-known", "well known"}, {"Pokémon", "pokemon"}, {"U.S.", "u s"}};
+        boolean passed = true;
+
+        for (String[] queries : cases)
+        {
+            List<Question> punctuated = index.search(queries[0]);
+            List<Question> tokens = index.search(queries[1]);
+            boolean same = punctuated.equals(tokens);
+            System.out.printf("%-6s \"%s\": %d, \"%s\": %d%n", same ? "ok" : "FAILED", queries[0], punctuated.size(), queries[1], tokens.size());
+            passed &= same;
+        }
+
+        // the case reported broken: an apostrophe query found nothing while the bare word found questions
+        boolean found = !index.search("Earth").isEmpty() && !index.search("Earth's").isEmpty();
+        System.out.printf("%-6s \"Earth's\" finds questions%n", found ? "ok" : "FAILED");
+        return passed && found;
+    }
+
+
+    private static void printResults(QuestionSearchIndex index, String query)
+    {
+        long start = System.nanoTime();
+        List<Question> results = index.search(query);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("\"%s\": %d questions in %d us%n", query, results.size(), elapsed / 1_000);
+        for (Question question : results)
+        {
+            System.out.printf("  [%s d%d] %s -> %s%n", question.getCategory(), question.getDifficulty(),
+                              question.getText(), question.getCorrectAnswer());
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package trivia;
+
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/*
+ * SkillModel keeps an Elo rating for every player in every category and one for every
+ * difficulty level of every category. Each answer is a match between the player and the
+ * question: both ratings move by how surprising the result was.
+ * The same replay works offline on answer logs, see main.
+ */
+
+
+public class SkillModel
+{
+    // Elo constants
+    private static final double INITIAL_RATING = 1500.0;
+    private static final double DIFFICULTY_STEP = 200.0;
+    private static final double PLAYER_K_FACTOR = 32.0;
+    private static final double QUESTION_K_FACTOR = 4.0;
+    private static final double ELO_SCALE = 400.0;
+
+    // the suggested difficulty is the one the player should answer right this often
+    private static final double TARGET_SUCCESS_RATE = 0.6;
+
+    private static final int MIN_DIFFICULTY = 1;
+    private static final int MAX_DIFFICULTY = 5;
+    private static final int LEVELS = MAX_DIFFICULTY - MIN_DIFFICULTY + 1;
+
+    private final Map<String, double[]> _playerRatings = new HashMap<>();
+    private final double[][] _difficultyRatings;
+    private BufferedWriter _answerLog;
+
+
+    // ctor, difficulty levels start 200 points apart around the initial rating
+    public SkillModel()
+    {
+        Question.Category[] categories = Question.Category.values();
+        _difficultyRatings = new double[categories.length][LEVELS];
+        for (double[] ratings : _difficultyRatings) 
+        {
+            for (int d = 0; d < LEVELS; d++) 
+            {
+                ratings[d] = INITIAL_RATING + (d - LEVELS / 2) * DIFFICULTY_STEP;
+            }
+        }
+    }
+
+
+    // appends every recorded answer to a csv log, so the calibration can be replayed later;
+    // a log already open is closed first
+    public void openAnswerLog(String path)
+    {
+        closeAnswerLog();
+        try 
+        {
+            _answerLog = new BufferedWriter(new FileWriter(path, true));
+        } 
+        catch (IOException e) 
+        {
+            System.err.println("Cannot open answer log " + path + ": " + e.getMessage());
+            _answerLog = null;
+        }
+    }
+
+
+    // replays the answers logged by earlier runs, then appends the new ones to the same log,
+    // so the ratings start where the last run left them
+    public void resumeAnswerLog(String path)
+    {
+        closeAnswerLog();
+        if (new File(path).exists()) 
+        {
+            try 
+            {
+                System.out.println("Replayed " + replayAnswerLog(path) + " answers from " + path);
+            } 
+            catch (IOException e) 
+            {
+                System.err.println("Cannot replay answer log " + path + ": " + e.getMessage());
+            }
+        }
+        openAnswerLog(path);
+    }
+
+
+    // closes the answer log, if one is open; the answers recorded after this are not logged
+    public void closeAnswerLog()
+    {
+        if (_answerLog == null) {return;}
+
+        try 
+        {
+            _answerLog.close();
+        } 
+        catch (IOException e) 
+        {
+            System.err.println("Cannot close answer log: " + e.getMessage());
+        }
+        _answerLog = null;
+    }
+
+
+    // getters
+    public double getRating(String playerName, Question.Category category)
+    {
+        return getPlayerRatings(playerName)[category.ordinal()];
+    }
+
+    public double getDifficultyRating(Question.Category category, int difficulty)
+    {
+        return _difficultyRatings[category.ordinal()][difficulty - MIN_DIFFICULTY];
+    }
+
+
+    // probability that the player answers a question of the given difficulty right
+    public double getExpectedSuccess(String playerName, Question.Category category, int difficulty)
+    {
+        return expectedScore(getRating(playerName, category), getDifficultyRating(category, difficulty));
+    }
+
+
+    // the difficulty whose expected success is closest to the target, a fixed scan over five levels
+    public int suggestDifficulty(String playerName, Question.Category category)
+    {
+        double playerRating = getRating(playerName, category);
+        double[] ratings = _difficultyRatings[category.ordinal()];
+
+        int best = MIN_DIFFICULTY;
+        double bestGap = Double.MAX_VALUE;
+        for (int d = 0; d < LEVELS; d++) 
+        {
+            double gap = Math.abs(expectedScore(playerRating, ratings[d]) - TARGET_SUCCESS_RATE);
+            if (gap < bestGap) 
+            {
+                bestGap = gap;
+                best = d + MIN_DIFFICULTY;
+            }
+        }
+        return best;
+    }
+
+
+    // updates both sides of the answer and writes it to the log, if one is open
+    public void recordAnswer(String playerName, Question.Category category, int difficulty, boolean correct)
+    {
+        if (difficulty < MIN_DIFFICULTY || difficulty > MAX_DIFFICULTY) {return;}
+
+        double[] playerRatings = getPlayerRatings(playerName);
+        int c = category.ordinal();
+        int d = difficulty - MIN_DIFFICULTY;
+
+        double expected = expectedScore(playerRatings[c], _difficultyRatings[c][d]);
+        double surprise = (correct ? 1.0 : 0.0) - expected;
+
+        playerRatings[c] += PLAYER_K_FACTOR * surprise;
+        _difficultyRatings[c][d] -= QUESTION_K_FACTOR * surprise;
+
+        writeLogLine(playerName, category, difficulty, correct);
+    }
+
+
+    private double[] getPlayerRatings(String playerName)
+    {
+        double[] ratings = _playerRatings.get(playerName);
+        if (ratings == null) 
+        {
+            ratings = new double[Question.Category.values().length];
+            Arrays.fill(ratings, INITIAL_RATING);
+            _playerRatings.put(playerName, ratings);
+        }
+        return ratings;
+    }
+
+
+    private static double expectedScore(double playerRating, double questionRating)
+    {
+        return 1.0 / (1.0 + Math.pow(10.0, (questionRating - playerRating) / ELO_SCALE));
+    }
+
+
+    // log line: player,category,difficulty,correct (player names can't contain commas in the log)
+    private void writeLogLine(String playerName, Question.Category category, int difficulty, boolean correct)
+    {
+        if (_answerLog == null) {return;}
+
+        try 
+        {
+            _answerLog.write(playerName.replace(',', ' ') + "," + category.name() + "," + difficulty + "," + correct);
+            _answerLog.newLine();
+            _answerLog.flush();
+        } 
+        catch (IOException e) 
+        {
+            System.err.println("Cannot write answer log: " + e.getMessage());
+            _answerLog = null;
+        }
+    }
+
+
+    // replays a log written by openAnswerLog, returns the number of answers replayed
+    public int replayAnswerLog(String path) throws IOException
+    {
+        int replayed = 0;
+        try (BufferedReader reader = new BufferedReader(new FileReader(path))) 
+        {
+            String line;
+            while ((line = reader.readLine()) != null) 
+            {
+                String[] fields = line.split(",");
+                if (fields.length != 4) {continue;}
+                try 
+                {
+                    recordAnswer(fields[0], Question.Category.valueOf(fields[1]), 
+                                 Integer.parseInt(fields[2]), Boolean.parseBoolean(fields[3]));
+                    replayed++;
+                } 
+                catch (IllegalArgumentException e) 
+                {
+                    System.err.println("Skipping answer log line: " + line);
+                }
+            }
+        }
+        return replayed;
+    }
+
+
+    // offline calibration: java trivia.SkillModel <answers.log> [<answers.log> ...]
+    public static void main(String[] args)
+    {
+        if (args.length == 0) 
+        {
+            System.err.println("usage: java trivia.SkillModel <answers.log> [<answers.log> ...]");
+            System.exit(1);
+        }
+
+        SkillModel model = new SkillModel();
+        int replayed = 0;
+        for (String path : args) 
+        {
+            try {replayed += model.replayAnswerLog(path);} 
+            catch (IOException e) {System.err.println("Cannot read " + path + ": " + e.getMessage());}
+        }
+        System.out.println("Replayed " + replayed + " answers");
+
+        System.out.println("\nDifficulty ratings");
+        for (Question.Category category : Question.Category.values()) 
+        {
+            StringBuilder line = new StringBuilder(String.format("%-22s", category.getDisplayName()));
+            for (int d = MIN_DIFFICULTY; d <= MAX_DIFFICULTY; d++) 
+            {
+                line.append(String.format("  %d: %7.1f", d, model.getDifficultyRating(category, d)));
+            }
+            System.out.println(line);
+        }
+
+        System.out.println("\nPlayer ratings (suggested difficulty)");
+        for (String playerName : model._playerRatings.keySet()) 
+        {
+            StringBuilder line = new StringBuilder(String.format("%-22s", playerName));
+            for (Question.Category category : Question.Category.values()) 
+            {
+                line.append(String.format("  %s: %7.1f (%d)", category.name(), 
+                            model.getRating(playerName, category), model.suggestDifficulty(playerName, category)));
+            }
+            System.out.println(line);
+        }
+    }
+}
@@ -1,10 +1,7 @@
-package troops;
-
-
-import trivia.Question;
-
-
-public class Archer extends Troop
-{
-    public Archer(){super("Archer", Question.Category.LITERATURE_ART, "archer.png");}
+package troops;
+
+
+public class Archer extends Troop
+{
+    public Archer(){super("Archer", TroopType.ARCHER.getCategory(), "archer.png");}
 }
\ No newline at end of file
@@ -1,10 +1,7 @@
-package troops;
-
-
-import trivia.Question;
-
-
-public class Barbarian extends Troop
-{
-    public Barbarian() {super("Barbarian", Question.Category.HISTORY_GEOGRAPHY, "barbarian.png");}
+package troops;
+
+
+public class Barbarian extends Troop
+{
+    public Barbarian() {super("Barbarian", TroopType.BARBARIAN.getCategory(), "barbarian.png");}
 }
\ No newline at end of file
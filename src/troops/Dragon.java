@@ -1,10 +1,7 @@
-package troops;
-
-
-import trivia.Question;
-
-
-public class Dragon extends Troop
-{
-    public Dragon(){super("Dragon", Question.Category.MOVIES_MUSIC, "dragon.png");}
+package troops;
+
+
+public class Dragon extends Troop
+{
+    public Dragon(){super("Dragon", TroopType.DRAGON.getCategory(), "dragon.png");}
 }
\ No newline at end of file
@@ -1,10 +1,7 @@
-package troops;
-
-
-import trivia.Question;
-
-
-public class Horse extends Troop
-{
-    public Horse() {super ("Horse", Question.Category.SPORT, "horse.png");}
+package troops;
+
+
+public class Horse extends Troop
+{
+    public Horse() {super ("Horse", TroopType.HORSE.getCategory(), "horse.png");}
 }
\ No newline at end of file
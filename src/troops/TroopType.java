@@ -0,0 +1,60 @@
+package troops;
+
+
+import trivia.Question;
+
+
+/*
+ * TroopType numbers the troop kinds, so troop counts can be kept in an int[] indexed by ordinal
+ * instead of a map keyed by name. The names are the ones of the Troop classes and of the String based APIs.
+ * The question category of a type is kept here too, so the rules can ask for it without loading
+ * TroopManager and its icons; the Troop classes take it from here.
+ */
+
+
+public enum TroopType
+{
+    ARCHER("Archer", Question.Category.LITERATURE_ART),
+    BARBARIAN("Barbarian", Question.Category.HISTORY_GEOGRAPHY),
+    DRAGON("Dragon", Question.Category.MOVIES_MUSIC),
+    HORSE("Horse", Question.Category.SPORT),
+    WIZARD("Wizard", Question.Category.SCIENCE);
+
+    public static final int COUNT = values().length;
+    private static final TroopType[] VALUES = values();
+
+    private final String _name;
+    private final Question.Category _category;
+
+
+    TroopType(String name, Question.Category category)
+    {
+        _name = name;
+        _category = category;
+    }
+
+
+    // the type with this name, null for a name that is not a troop
+    public static TroopType fromName(String name)
+    {
+        if (name == null) {return null;}
+        return switch (name)
+        {
+            case "Archer" -> ARCHER;
+            case "Barbarian" -> BARBARIAN;
+            case "Dragon" -> DRAGON;
+            case "Horse" -> HORSE;
+            case "Wizard" -> WIZARD;
+            default -> null;
+        };
+    }
+
+
+    // the type with this ordinal
+    public static TroopType of(int ordinal) {return VALUES[ordinal];}
+
+
+    public String getName() {return _name;}
+    public Troop getTroop() {return TroopManager.getTroop(_name);}
+    public Question.Category getCategory() {return _category;}
+}
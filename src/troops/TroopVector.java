@@ -0,0 +1,102 @@
+package troops;
+
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/*
+ * TroopVector counts troops by TroopType ordinal in an int[], with the running total and, as a bitmask,
+ * the types that already acted this turn. Territory and Player keep their troops in one.
+ * The String keyed methods at the bottom turn names and maps into types, for the callers still on maps.
+ */
+
+
+public final class TroopVector
+{
+    private final int[] _counts = new int[TroopType.COUNT];
+    private int _total;
+    private int _actedMask;
+
+
+    // counts
+    public int get(TroopType type) {return _counts[type.ordinal()];}
+    public int getTotal() {return _total;}
+
+    public void add(TroopType type, int count)
+    {
+        _counts[type.ordinal()] += count;
+        _total += count;
+    }
+
+    public void clear()
+    {
+        for (int type = 0; type < _counts.length; type++) {_counts[type] = 0;}
+        _total = 0;
+        _actedMask = 0;
+    }
+
+    // copies the counts into an array indexed by TroopType ordinal
+    public void copyTo(int[] counts) {System.arraycopy(_counts, 0, counts, 0, _counts.length);}
+
+
+    // actions, one bit per type
+    public void markActed(TroopType type) {_actedMask |= 1 << type.ordinal();}
+    public boolean hasActed(TroopType type) {return (_actedMask & (1 << type.ordinal())) != 0;}
+    public void resetActions() {_actedMask = 0;}
+
+    // troops of the type that can still act this turn
+    public int getAvailable(TroopType type)
+    {
+        int count = _counts[type.ordinal()];
+        return count > 0 && !hasActed(type) ? count : 0;
+    }
+
+    public boolean hasAvailable()
+    {
+        for (int type = 0; type < _counts.length; type++)
+        {
+            if (_counts[type] > 0 && (_actedMask & (1 << type)) == 0) {return true;}
+        }
+        return false;
+    }
+
+
+    // the type with this name, a name that is not a troop is a bug in the caller
+    public static TroopType typeOf(String troopType)
+    {
+        TroopType type = TroopType.fromName(troopType);
+        if (type == null) {throw new IllegalArgumentException("Unknown troop type: " + troopType);}
+        return type;
+    }
+
+    // the types present, as a map by name
+    public Map<String, Integer> toMap()
+    {
+        Map<String, Integer> troops = new HashMap<>();
+        for (int type = 0; type < _counts.length; type++)
+        {
+            if (_counts[type] > 0) {troops.put(TroopType.of(type).getName(), _counts[type]);}
+        }
+        return troops;
+    }
+
+    // the types that can still act, as a map by name
+    public Map<String, Integer> toAvailableMap()
+    {
+        Map<String, Integer> troops = new HashMap<>();
+        for (int type = 0; type < _counts.length; type++)
+        {
+            if (_counts[type] > 0 && (_actedMask & (1 << type)) == 0) {troops.put(TroopType.of(type).getName(), _counts[type]);}
+        }
+        return troops;
+    }
+
+    public void addAll(Map<String, Integer> troops)
+    {
+        for (Map.Entry<String, Integer> entry : troops.entrySet())
+        {
+            add(typeOf(entry.getKey()), entry.getValue());
+        }
+    }
+}
@@ -1,9 +1,6 @@
-package troops;
-
-import trivia.Question;
-
-
-public class Wizard extends Troop
-{
-    public Wizard(){super("Wizard", Question.Category.SCIENCE, "wizard.png");}
+package troops;
+
+public class Wizard extends Troop
+{
+    public Wizard(){super("Wizard", TroopType.WIZARD.getCategory(), "wizard.png");}
 }
\ No newline at end of file